@@ -63,6 +63,7 @@ import org.verapdf.features.tools.FeatureTreeNode;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 /**
  * Parses PDFBox PDDocument to generate features collection
@@ -78,11 +79,11 @@ public final class PBFeatureParser {
 	private static final String DEVICERGB_ID = "devrgb";
 	private static final String DEVICECMYK_ID = "devcmyk";
 
-	private FeaturesReporter reporter;
+	private PBFeaturesReportQueue reporter;
 	private FeatureExtractorConfig config;
 	private Set<String> processedIDs;
 
-	private PBFeatureParser(FeaturesReporter reporter, FeatureExtractorConfig config) {
+	private PBFeatureParser(PBFeaturesReportQueue reporter, FeatureExtractorConfig config) {
 		this.reporter = reporter;
 		this.config = config;
 		this.processedIDs = new HashSet<>();
@@ -99,7 +100,28 @@ public final class PBFeatureParser {
 	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document, final FeatureExtractorConfig config) {
 
 		FeaturesReporter reporter = new FeaturesReporter(config);
-		return getFeatures(document, reporter, config);
+		return getFeatures(document, reporter, config, 1);
+	}
+
+	/**
+	 * Parses the document and returns Feature collection by using given
+	 * Features Reporter. Features objects of fonts, images, ICC profiles and
+	 * embedded files are created on a fork-join pool, but they are reported
+	 * in the document order, so the result is the same as for the serial
+	 * extraction.
+	 *
+	 * @param document
+	 *            the document for parsing
+	 * @param parallelism
+	 *            number of threads used to create features objects, {@code 1}
+	 *            to create them on the calling thread
+	 * @return FeaturesCollection class with information about all featurereport
+	 */
+	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document,
+			final FeatureExtractorConfig config, final int parallelism) {
+
+		FeaturesReporter reporter = new FeaturesReporter(config);
+		return getFeatures(document, reporter, config, parallelism);
 	}
 
 	/**
@@ -114,17 +136,45 @@ public final class PBFeatureParser {
 			final List<AbstractFeaturesExtractor> extractors, final FeatureExtractorConfig config) {
 
 		FeaturesReporter reporter = new FeaturesReporter(config, extractors);
-		return getFeatures(document, reporter, config);
+		return getFeatures(document, reporter, config, 1);
+	}
+
+	/**
+	 * Parses the document and returns Feature collection by using given
+	 * Features Reporter. Features objects of fonts, images, ICC profiles and
+	 * embedded files are created on a fork-join pool, but they are reported
+	 * in the document order, so the result is the same as for the serial
+	 * extraction.
+	 *
+	 * @param document
+	 *            the document for parsing
+	 * @param parallelism
+	 *            number of threads used to create features objects, {@code 1}
+	 *            to create them on the calling thread
+	 * @return FeaturesCollection class with information about all featurereport
+	 */
+	public static FeatureExtractionResult getFeaturesCollection(final PDDocument document,
+			final List<AbstractFeaturesExtractor> extractors, final FeatureExtractorConfig config,
+			final int parallelism) {
+
+		FeaturesReporter reporter = new FeaturesReporter(config, extractors);
+		return getFeatures(document, reporter, config, parallelism);
 	}
 
 	private static FeatureExtractionResult getFeatures(PDDocument document, FeaturesReporter reporter,
-			FeatureExtractorConfig config) {
+			FeatureExtractorConfig config, int parallelism) {
 		if (config == null) {
 			throw new IllegalArgumentException("Features config can not be null");
 		}
 		if (document != null) {
-			PBFeatureParser parser = new PBFeatureParser(reporter, config);
-			parser.parseDocumentFeatures(document);
+			PBFeaturesReportQueue queue = new PBFeaturesReportQueue(reporter, parallelism);
+			try {
+				PBFeatureParser parser = new PBFeatureParser(queue, config);
+				parser.parseDocumentFeatures(document);
+				queue.flush();
+			} finally {
+				queue.shutdown();
+			}
 		}
 
 		return reporter.getCollection();
@@ -290,6 +340,8 @@ public final class PBFeatureParser {
 
 	private void getPageTreeFeatures(PDPageTree pageTree, PDPageLabels pageLabels) {
 		String[] labels = pageLabels == null ? null : pageLabels.getLabelsByPageIndices();
+		// pages are numbered during the traversal, as PDPageTree.indexOf walks the tree on every call
+		int pageIndex = 0;
 		for (PDPage page : pageTree) {
 			reportPageActions(page);
 			Set<String> annotsId = addAnnotsDependencies(page);
@@ -327,11 +379,11 @@ public final class PBFeatureParser {
 			Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
 					? parsePropertiesFromResources(resources) : null;
 
-			int pageIndex = pageTree.indexOf(page);
 			String label = labels != null && pageIndex < labels.length ? labels[pageIndex] : null;
 			reporter.report(PBFeaturesObjectCreator.createPageFeaturesObject(page, label, thumbID, annotsId, extGStateChild,
 					colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild, propertiesChild,
 					pageIndex));
+			++pageIndex;
 		}
 	}
 
@@ -497,7 +549,7 @@ public final class PBFeatureParser {
 		try {
 			if (efTree.getNames() != null) {
 				for (PDComplexFileSpecification file : efTree.getNames().values()) {
-					reporter.report(PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, ++index));
+					reportEmbeddedFile(file, ++index);
 				}
 			}
 		} catch (IOException e) {
@@ -542,7 +594,7 @@ public final class PBFeatureParser {
 			if (config.isFeatureEnabled(FeatureObjectType.EMBEDDED_FILE) && node.getNames() != null) {
 				for (PDComplexFileSpecification file : node.getNames().values()) {
 					if (file != null) {
-						reporter.report(PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, ++res));
+						reportEmbeddedFile(file, ++res);
 					}
 				}
 			}
@@ -567,8 +619,7 @@ public final class PBFeatureParser {
 			COSDictionary outIntDict = (COSDictionary) outIntBase;
 			String iccProfileID = getId(outIntDict.getItem(COSName.DEST_OUTPUT_PROFILE), FeatureObjectType.ICCPROFILE);
 			if (checkIDBeforeProcess(iccProfileID)) {
-				reporter.report(PBFeaturesObjectCreator.createICCProfileFeaturesObject(outInt.getDestOutputIntent(),
-						iccProfileID));
+				reportICCProfile(outInt.getDestOutputIntent(), iccProfileID);
 			}
 			return iccProfileID;
 		}
@@ -881,8 +932,7 @@ public final class PBFeatureParser {
 			alternatesIDs = null;
 		}
 
-		reporter.report(PBFeaturesObjectCreator.createImageXObjectFeaturesObject(xobj, id, idColorSpace, idMask,
-				idSMask, alternatesIDs));
+		reportImageXObject(xobj, id, idColorSpace, idMask, idSMask, alternatesIDs);
 	}
 
 	private void parseFormXObject(PDFormXObject xobj, String id) {
@@ -1029,8 +1079,8 @@ public final class PBFeatureParser {
 			Set<String> propertiesChild = config.isFeatureEnabled(FeatureObjectType.PROPERTIES)
 					? parsePropertiesFromResources(resources) : null;
 
-			reporter.report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, extGStateChild, colorSpaceChild,
-					patternChild, shadingChild, xobjectChild, fontChild, propertiesChild));
+			reportFont(font, id, extGStateChild, colorSpaceChild, patternChild, shadingChild, xobjectChild, fontChild,
+					propertiesChild);
 		} else if (font instanceof PDType0Font) {
 			PDType0Font type0 = (PDType0Font) font;
 
@@ -1046,15 +1096,54 @@ public final class PBFeatureParser {
 					descendant = new HashSet<>();
 					descendant.add(descendantID);
 				}
-				reporter.report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, null, null, null, null, null,
-						descendant, null));
+				reportFont(font, id, null, null, null, null, null, descendant, null);
 			}
 		} else {
-			reporter.report(PBFeaturesObjectCreator.createFontFeaturesObject(font, id, null, null, null, null, null,
-					null, null));
+			reportFont(font, id, null, null, null, null, null, null, null);
 		}
 	}
 
+	private void reportFont(final PDFontLike font, final String id, final Set<String> extGStateChild,
+			final Set<String> colorSpaceChild, final Set<String> patternChild, final Set<String> shadingChild,
+			final Set<String> xobjectChild, final Set<String> fontChild, final Set<String> propertiesChild) {
+		reporter.submit(new Callable<FeaturesObject>() {
+			@Override
+			public FeaturesObject call() {
+				return PBFeaturesObjectCreator.createFontFeaturesObject(font, id, extGStateChild, colorSpaceChild,
+						patternChild, shadingChild, xobjectChild, fontChild, propertiesChild);
+			}
+		});
+	}
+
+	private void reportImageXObject(final PDImageXObjectProxy xobj, final String id, final String idColorSpace,
+			final String idMask, final String idSMask, final Set<String> alternatesIDs) {
+		reporter.submit(new Callable<FeaturesObject>() {
+			@Override
+			public FeaturesObject call() {
+				return PBFeaturesObjectCreator.createImageXObjectFeaturesObject(xobj, id, idColorSpace, idMask,
+						idSMask, alternatesIDs);
+			}
+		});
+	}
+
+	private void reportICCProfile(final COSStream profile, final String id) {
+		reporter.submit(new Callable<FeaturesObject>() {
+			@Override
+			public FeaturesObject call() {
+				return PBFeaturesObjectCreator.createICCProfileFeaturesObject(profile, id);
+			}
+		});
+	}
+
+	private void reportEmbeddedFile(final PDComplexFileSpecification file, final int index) {
+		reporter.submit(new Callable<FeaturesObject>() {
+			@Override
+			public FeaturesObject call() {
+				return PBFeaturesObjectCreator.createEmbeddedFileFeaturesObject(file, index);
+			}
+		});
+	}
+
 	private void parseColorSpace(PDColorSpace colorSpace, String id) {
 		String iccProfileID = null;
 		String idAlt = null;
@@ -1065,8 +1154,7 @@ public final class PBFeatureParser {
 			iccProfileID = getId(base, FeatureObjectType.ICCPROFILE);
 
 			if (checkIDBeforeProcess(iccProfileID)) {
-				reporter.report(PBFeaturesObjectCreator
-						.createICCProfileFeaturesObject(iccBased.getPDStream().getStream(), iccProfileID));
+				reportICCProfile(iccBased.getPDStream().getStream(), iccProfileID);
 			}
 
 			COSBase baseAlt = iccBased.getPDStream().getStream().getItem(COSName.ALTERNATE);
@@ -0,0 +1,195 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb;
+
+import org.verapdf.features.FeatureExtractionResult;
+import org.verapdf.features.FeaturesObject;
+import org.verapdf.features.FeaturesReporter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports features objects to the Features Reporter in the order they were
+ * added. Objects added by {@link #submit(Callable)} may be created on a
+ * fork-join pool, but they are reported on the calling thread only after all
+ * objects added before them, so the features collection and the error IDs are
+ * the same as for the serial extraction.
+ */
+final class PBFeaturesReportQueue {
+
+	private static final int MAX_PENDING_PER_THREAD = 4;
+
+	private final FeaturesReporter reporter;
+	private final ForkJoinPool pool;
+	private final int maxPending;
+	private final Deque<Future<FeaturesObject>> pending = new ArrayDeque<>();
+
+	/**
+	 * @param reporter
+	 *            reporter used for all features objects
+	 * @param parallelism
+	 *            number of threads used to create features objects, {@code 1}
+	 *            to create and report them immediately on the calling thread
+	 */
+	PBFeaturesReportQueue(FeaturesReporter reporter, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+		}
+		this.reporter = reporter;
+		this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		this.maxPending = parallelism * MAX_PENDING_PER_THREAD;
+	}
+
+	/**
+	 * Reports already created features object after all previously added ones
+	 *
+	 * @param object
+	 *            features object for report
+	 */
+	void report(FeaturesObject object) {
+		if (this.pool == null) {
+			this.reporter.report(object);
+		} else {
+			enqueue(new CreatedObject(object));
+		}
+	}
+
+	/**
+	 * Creates features object by the given task, on the pool in parallel mode,
+	 * and reports it after all previously added ones. The task must not touch
+	 * objects which are still used by the calling thread.
+	 *
+	 * @param task
+	 *            task which creates features object
+	 */
+	void submit(Callable<FeaturesObject> task) {
+		if (this.pool == null) {
+			this.reporter.report(call(task));
+		} else {
+			enqueue(this.pool.submit(task));
+		}
+	}
+
+	/**
+	 * Reports all added objects and returns features collection, which may be
+	 * modified directly after that
+	 *
+	 * @return features collection of the reporter
+	 */
+	FeatureExtractionResult getCollection() {
+		flush();
+		return this.reporter.getCollection();
+	}
+
+	/**
+	 * Reports all added objects
+	 */
+	void flush() {
+		while (!this.pending.isEmpty()) {
+			reportHead();
+		}
+	}
+
+	/**
+	 * Stops the pool, objects which are not reported yet are discarded
+	 */
+	void shutdown() {
+		if (this.pool != null) {
+			this.pool.shutdownNow();
+			this.pending.clear();
+		}
+	}
+
+	private void enqueue(Future<FeaturesObject> entry) {
+		this.pending.addLast(entry);
+		while (!this.pending.isEmpty()
+				&& (this.pending.size() > this.maxPending || this.pending.peekFirst().isDone())) {
+			reportHead();
+		}
+	}
+
+	private void reportHead() {
+		Future<FeaturesObject> head = this.pending.removeFirst();
+		try {
+			this.reporter.report(head.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Features extraction has been interrupted", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private static FeaturesObject call(Callable<FeaturesObject> task) {
+		try {
+			return task.call();
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class CreatedObject implements Future<FeaturesObject> {
+		private final FeaturesObject object;
+
+		CreatedObject(FeaturesObject object) {
+			this.object = object;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return false;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return false;
+		}
+
+		@Override
+		public boolean isDone() {
+			return true;
+		}
+
+		@Override
+		public FeaturesObject get() {
+			return this.object;
+		}
+
+		@Override
+		public FeaturesObject get(long timeout, TimeUnit unit) {
+			return this.object;
+		}
+	}
+}
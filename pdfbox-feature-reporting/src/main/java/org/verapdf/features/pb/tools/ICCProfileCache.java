@@ -0,0 +1,167 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Features of icc profiles shared by all documents processed in the JVM.
+ * Profiles are keyed by digest of their encoded data and filters, so the
+ * same output intent or ICCBased profile embedded into every document of
+ * a batch is decoded and parsed once. Least recently used profiles are
+ * evicted when the cache is full.
+ * <p>
+ * The LRU map, its counters and the digest key are implemented here rather
+ * than with CountingCache and ContentDigest, because those live in the
+ * validation model module, which depends on this module and can not be
+ * used from it.
+ */
+public final class ICCProfileCache {
+
+	private static final Logger LOGGER = Logger.getLogger(ICCProfileCache.class);
+
+	/**
+	 * Default maximal number of cached profiles
+	 */
+	public static final int DEFAULT_CAPACITY = 32;
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	private static final COSName DP = COSName.getPDFName("DP");
+	private static final int BUFFER_SIZE = 8192;
+
+	private static int capacity = DEFAULT_CAPACITY;
+	private static final Map<String, ICCProfileInfo> PROFILES = new LinkedHashMap<String, ICCProfileInfo>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ICCProfileInfo> eldest) {
+			return size() > capacity;
+		}
+	};
+	private static long hits = 0;
+	private static long misses = 0;
+
+	private ICCProfileCache() {
+		// Disable default constructor
+	}
+
+	/**
+	 * Obtains features of the profile
+	 *
+	 * @param profile icc profile stream
+	 * @return features of the profile
+	 */
+	public static ICCProfileInfo getProfileInfo(COSStream profile) {
+		String key = getKey(profile);
+		if (key == null) {
+			return ICCProfileInfo.read(profile);
+		}
+		synchronized (PROFILES) {
+			ICCProfileInfo info = PROFILES.get(key);
+			if (info != null) {
+				++hits;
+				return info;
+			}
+			++misses;
+		}
+		ICCProfileInfo info = ICCProfileInfo.read(profile);
+		synchronized (PROFILES) {
+			PROFILES.put(key, info);
+		}
+		return info;
+	}
+
+	/**
+	 * Sets maximal number of cached profiles and drops all cached profiles
+	 *
+	 * @param newCapacity maximal number of cached profiles, {@code 0}
+	 *                    disables the cache
+	 */
+	public static void setCapacity(int newCapacity) {
+		if (newCapacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative, but was " + newCapacity);
+		}
+		synchronized (PROFILES) {
+			capacity = newCapacity;
+			PROFILES.clear();
+			hits = 0;
+			misses = 0;
+		}
+	}
+
+	/**
+	 * @return number of profiles served from the cache
+	 */
+	public static long getHits() {
+		synchronized (PROFILES) {
+			return hits;
+		}
+	}
+
+	/**
+	 * @return number of parsed profiles
+	 */
+	public static long getMisses() {
+		synchronized (PROFILES) {
+			return misses;
+		}
+	}
+
+	private static String getKey(COSStream profile) {
+		synchronized (PROFILES) {
+			if (capacity == 0) {
+				return null;
+			}
+		}
+		if (profile.getDictionaryObject(COSName.DECODE_PARMS) != null || profile.getDictionaryObject(DP) != null) {
+			return null;
+		}
+		try (InputStream is = profile.getFilteredStream()) {
+			MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			COSBase filters = profile.getFilters();
+			digest.update(String.valueOf(filters).getBytes(StandardCharsets.UTF_8));
+			StringBuilder key = new StringBuilder();
+			for (byte b : digest.digest()) {
+				key.append(String.format("%02x", Integer.valueOf(b & 0xFF)));
+			}
+			return key.toString();
+		} catch (IOException | NoSuchAlgorithmException e) {
+			LOGGER.debug("Can not compute digest of icc profile", e);
+			return null;
+		}
+	}
+}
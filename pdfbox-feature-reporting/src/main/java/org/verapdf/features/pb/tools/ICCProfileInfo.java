@@ -0,0 +1,351 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import org.apache.pdfbox.cos.COSStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Features of an icc profile read from its header and from the copyright and
+ * description tags. Only the header, the tag table and data of these tags are
+ * decoded, in one pass over the beginning of the profile. Objects are
+ * immutable and may be shared between documents.
+ */
+public final class ICCProfileInfo {
+
+	private static final int HEADER_SIZE = 128;
+	private static final int FF_FLAG = 0xFF;
+	private static final int REQUIRED_LENGTH = 4;
+	private static final int TAGINFO_LENGTH = 12;
+	private static final int BITSINBYTE = 8;
+	private static final int VERSION_BYTE = 8;
+	private static final int SUBVERSION_BYTE = 9;
+	private static final int CMMTYPE_BEGIN = 4;
+	private static final int CMMTYPE_END = 8;
+	private static final int DATACOLORSPACE_BEGIN = 16;
+	private static final int DATACOLORSPACE_END = 20;
+	private static final int RENDERINGINTENT_BEGIN = 64;
+	private static final int RENDERINGINTENT_END = 68;
+	private static final int PROFILEID_BEGIN = 84;
+	private static final int PROFILEID_END = 100;
+	private static final int DEVICEMODEL_BEGIN = 52;
+	private static final int DEVICEMODEL_END = 56;
+	private static final int DEVICEMANUFACTURER_BEGIN = 48;
+	private static final int DEVICEMANUFACTURER_END = 52;
+	private static final int CREATOR_BEGIN = 80;
+	private static final int CREATOR_END = 84;
+	private static final int CREATION_YEAR = 24;
+	private static final int CREATION_MONTH = 26;
+	private static final int CREATION_DAY = 28;
+	private static final int CREATION_HOUR = 30;
+	private static final int CREATION_MIN = 32;
+	private static final int CREATION_SEC = 34;
+	private static final int FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_BEGIN = 8;
+	private static final int FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END = 12;
+	private static final int NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_BEGIN = 8;
+	private static final int NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END = 12;
+	private static final int LENGTH_OF_RECORD_IN_MULTILOCALIZEDUNICODETYPE_END = 12;
+	private static final String COPYRIGHT_TAG = "cprt";
+	private static final String DESCRIPTION_TAG = "desc";
+
+	private final String version;
+	private final String cmmType;
+	private final String dataColorSpace;
+	private final String creator;
+	private final Calendar creationDate;
+	private final String defaultRenderingIntent;
+	private final String copyright;
+	private final String description;
+	private final String profileID;
+	private final String deviceModel;
+	private final String deviceManufacturer;
+	private final List<String> errors;
+
+	private ICCProfileInfo(byte[] profileBytes, List<String> errors) {
+		if (profileBytes != null) {
+			this.version = getVersion(profileBytes);
+			this.cmmType = getString(profileBytes, CMMTYPE_BEGIN, CMMTYPE_END);
+			this.dataColorSpace = getString(profileBytes, DATACOLORSPACE_BEGIN, DATACOLORSPACE_END);
+			this.creator = getString(profileBytes, CREATOR_BEGIN, CREATOR_END);
+			this.creationDate = getCreationDate(profileBytes);
+			this.defaultRenderingIntent = getIntent(getString(profileBytes, RENDERINGINTENT_BEGIN, RENDERINGINTENT_END));
+			this.copyright = getStringTag(profileBytes, COPYRIGHT_TAG, true);
+			this.description = getStringTag(profileBytes, DESCRIPTION_TAG, false);
+			this.profileID = getString(profileBytes, PROFILEID_BEGIN, PROFILEID_END);
+			this.deviceModel = getString(profileBytes, DEVICEMODEL_BEGIN, DEVICEMODEL_END);
+			this.deviceManufacturer = getString(profileBytes, DEVICEMANUFACTURER_BEGIN, DEVICEMANUFACTURER_END);
+		} else {
+			this.version = null;
+			this.cmmType = null;
+			this.dataColorSpace = null;
+			this.creator = null;
+			this.creationDate = null;
+			this.defaultRenderingIntent = null;
+			this.copyright = null;
+			this.description = null;
+			this.profileID = null;
+			this.deviceModel = null;
+			this.deviceManufacturer = null;
+		}
+		this.errors = Collections.unmodifiableList(errors);
+	}
+
+	/**
+	 * Reads features of the profile
+	 *
+	 * @param profile icc profile stream
+	 * @return features of the profile
+	 */
+	public static ICCProfileInfo read(COSStream profile) {
+		List<String> errors = new ArrayList<>();
+		try (PBStreamPrefixReader.Prefix prefix = new PBStreamPrefixReader.Prefix(profile)) {
+			byte[] profileBytes = prefix.read(HEADER_SIZE + REQUIRED_LENGTH);
+			if (profileBytes.length < HEADER_SIZE) {
+				errors.add("ICCProfile contains less than " + HEADER_SIZE + " bytes");
+				return new ICCProfileInfo(null, errors);
+			}
+			if (profileBytes.length == HEADER_SIZE + REQUIRED_LENGTH) {
+				int tagsNumber = byteArrayToInt(Arrays.copyOfRange(profileBytes, HEADER_SIZE,
+						HEADER_SIZE + REQUIRED_LENGTH));
+				long tableEnd = HEADER_SIZE + REQUIRED_LENGTH + (long) Math.max(tagsNumber, 0) * TAGINFO_LENGTH;
+				profileBytes = prefix.read((int) Math.min(tableEnd, Integer.MAX_VALUE));
+				long dataEnd = Math.max(getTagEnd(profileBytes, COPYRIGHT_TAG), getTagEnd(profileBytes, DESCRIPTION_TAG));
+				if (dataEnd > profileBytes.length) {
+					profileBytes = prefix.read((int) Math.min(dataEnd, Integer.MAX_VALUE));
+				}
+			}
+			return new ICCProfileInfo(profileBytes, errors);
+		} catch (IOException e) {
+			errors.add(e.getMessage());
+			return new ICCProfileInfo(null, errors);
+		}
+	}
+
+	public String getVersion() {
+		return this.version;
+	}
+
+	public String getCMMType() {
+		return this.cmmType;
+	}
+
+	public String getDataColorSpace() {
+		return this.dataColorSpace;
+	}
+
+	public String getCreator() {
+		return this.creator;
+	}
+
+	/**
+	 * @return copy of the creation date of the profile
+	 */
+	public Calendar getCreationDate() {
+		return this.creationDate == null ? null : (Calendar) this.creationDate.clone();
+	}
+
+	public String getDefaultRenderingIntent() {
+		return this.defaultRenderingIntent;
+	}
+
+	public String getCopyright() {
+		return this.copyright;
+	}
+
+	public String getDescription() {
+		return this.description;
+	}
+
+	public String getProfileID() {
+		return this.profileID;
+	}
+
+	public String getDeviceModel() {
+		return this.deviceModel;
+	}
+
+	public String getDeviceManufacturer() {
+		return this.deviceManufacturer;
+	}
+
+	public List<String> getErrors() {
+		return this.errors;
+	}
+
+	/**
+	 * Obtains end of the tag data from the tag table
+	 *
+	 * @return offset of the end of the tag data, or {@code 0} if there is no such tag
+	 */
+	private static long getTagEnd(byte[] profileBytes, String tagName) {
+		int tagsNumberRemained = byteArrayToInt(Arrays.copyOfRange(profileBytes, HEADER_SIZE, HEADER_SIZE + REQUIRED_LENGTH));
+		int curOffset = HEADER_SIZE + REQUIRED_LENGTH;
+		while (tagsNumberRemained-- > 0 && curOffset + TAGINFO_LENGTH <= profileBytes.length) {
+			String tag = new String(Arrays.copyOfRange(profileBytes, curOffset, curOffset + REQUIRED_LENGTH));
+			if (tag.equals(tagName)) {
+				long offset = byteArrayToInt(Arrays.copyOfRange(profileBytes, curOffset + REQUIRED_LENGTH,
+						curOffset + 2 * REQUIRED_LENGTH)) & 0xFFFFFFFFL;
+				long length = byteArrayToInt(Arrays.copyOfRange(profileBytes, curOffset + 2 * REQUIRED_LENGTH,
+						curOffset + 3 * REQUIRED_LENGTH)) & 0xFFFFFFFFL;
+				return offset + length;
+			}
+			curOffset += TAGINFO_LENGTH;
+		}
+		return 0;
+	}
+
+	private static String getIntent(String str) {
+		if (str == null) {
+			return "Perceptual";
+		}
+		switch (str) {
+			case "\u0000\u0000\u0000\u0001":
+				return "Media-Relative Colorimetric";
+			case "\u0000\u0000\u0000\u0002":
+				return "Saturation";
+			case "\u0000\u0000\u0000\u0003":
+				return "ICC-Absolute Colorimetric";
+			default:
+				return str;
+		}
+	}
+
+	private static String getVersion(byte[] header) {
+
+		if (header[VERSION_BYTE] == 0 && header[SUBVERSION_BYTE] == 0) {
+			return null;
+		}
+		StringBuilder builder = new StringBuilder();
+		builder.append(header[VERSION_BYTE] & FF_FLAG).append(".");
+		builder.append((header[SUBVERSION_BYTE] & FF_FLAG) >>> REQUIRED_LENGTH);
+		return builder.toString();
+	}
+
+	private static String getString(byte[] header, int begin, int end) {
+		StringBuilder builder = new StringBuilder();
+		boolean isEmpty = true;
+		for (int i = begin; i < end; ++i) {
+			if (header[i] != 0) {
+				isEmpty = false;
+			}
+			builder.append((char) header[i]);
+		}
+
+		return isEmpty ? null : builder.toString();
+	}
+
+	private static Calendar getCreationDate(byte[] header) {
+
+		int year = getCreationPart(header, CREATION_YEAR);
+		int month = getCreationPart(header, CREATION_MONTH);
+		int day = getCreationPart(header, CREATION_DAY);
+		int hour = getCreationPart(header, CREATION_HOUR);
+		int min = getCreationPart(header, CREATION_MIN);
+		int sec = getCreationPart(header, CREATION_SEC);
+
+		if (year != 0 || month != 0 || day != 0 || hour != 0 || min != 0 || sec != 0) {
+			GregorianCalendar cal = new GregorianCalendar(TimeZone.getTimeZone("UTC"), Locale.US);
+			cal.set(year, month - 1, day, hour, min, sec);
+			cal.set(Calendar.MILLISECOND, 0);
+			return cal;
+		}
+
+		return null;
+	}
+
+	private static int getCreationPart(byte[] header, int off) {
+		int part = header[off] & FF_FLAG;
+		part <<= BITSINBYTE;
+		part += header[off + 1] & FF_FLAG;
+		return part;
+	}
+
+	private static String getStringTag(byte[] profileBytes, String tagName, boolean isCprt) {
+		if (profileBytes.length < HEADER_SIZE + REQUIRED_LENGTH) {
+			return null;
+		}
+
+		int tagsNumberRemained = byteArrayToInt(Arrays.copyOfRange(profileBytes, HEADER_SIZE, HEADER_SIZE + REQUIRED_LENGTH));
+
+		int curOffset = HEADER_SIZE + REQUIRED_LENGTH;
+
+		while (tagsNumberRemained-- > 0 && curOffset + TAGINFO_LENGTH <= profileBytes.length) {
+			String tag = new String(Arrays.copyOfRange(profileBytes, curOffset, curOffset + REQUIRED_LENGTH));
+			if (tag.equals(tagName)) {
+				curOffset += REQUIRED_LENGTH;
+				int offset = byteArrayToInt(Arrays.copyOfRange(profileBytes, curOffset,
+						curOffset + REQUIRED_LENGTH));
+				curOffset += REQUIRED_LENGTH;
+				int length = byteArrayToInt(Arrays.copyOfRange(profileBytes, curOffset,
+						curOffset + REQUIRED_LENGTH));
+				if (profileBytes.length < offset + length) {
+					return null;
+				}
+
+				String type = new String(Arrays.copyOfRange(profileBytes, offset, offset + REQUIRED_LENGTH));
+				if ("mluc".equals(type)) {
+
+					int number = byteArrayToInt(Arrays.copyOfRange(profileBytes, offset + NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_BEGIN,
+							offset + NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END));
+					int recOffset = offset + NUMBER_OF_RECORDS_IN_MULTILOCALIZEDUNICODETYPE_END + REQUIRED_LENGTH;
+					for (int i = 0; i < number; ++i) {
+						String local = getString(profileBytes, recOffset, recOffset + REQUIRED_LENGTH);
+						if ("enUS".equals(local)) {
+							length = byteArrayToInt(Arrays.copyOfRange(profileBytes, recOffset + REQUIRED_LENGTH,
+									recOffset + REQUIRED_LENGTH + REQUIRED_LENGTH));
+							offset += byteArrayToInt(Arrays.copyOfRange(profileBytes, recOffset + REQUIRED_LENGTH * 2,
+									recOffset + REQUIRED_LENGTH * 2 + REQUIRED_LENGTH));
+							return new String(Arrays.copyOfRange(profileBytes, offset, offset + length), StandardCharsets.UTF_16BE).trim();
+						}
+						recOffset += LENGTH_OF_RECORD_IN_MULTILOCALIZEDUNICODETYPE_END;
+					}
+					return null;
+				} else if ("desc".equals(type)) {
+					length = byteArrayToInt(Arrays.copyOfRange(profileBytes, offset + FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_BEGIN,
+							offset + FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END));
+					offset += FIRST_RECORD_STRING_LENGTH_IN_TEXTDESCRIPTIONTYPE_END;
+				} else if (isCprt) {
+					offset += REQUIRED_LENGTH;
+					length -= REQUIRED_LENGTH;
+				} else {
+					return null;
+				}
+
+				return new String(Arrays.copyOfRange(profileBytes, offset, offset + length), StandardCharsets.US_ASCII).trim();
+			}
+			curOffset += TAGINFO_LENGTH;
+		}
+
+		return null;
+	}
+
+	private static int byteArrayToInt(byte[] b) {
+		int value = 0;
+		for (int i = 0; i < REQUIRED_LENGTH; i++) {
+			int shift = (REQUIRED_LENGTH - 1 - i) * BITSINBYTE;
+			value += (b[i] & FF_FLAG) << shift;
+		}
+		return value;
+	}
+}
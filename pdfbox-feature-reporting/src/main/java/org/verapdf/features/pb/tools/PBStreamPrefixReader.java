@@ -0,0 +1,186 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.pb.tools;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads beginning of decoded stream data. Streams without filters and
+ * streams with a single FlateDecode filter without parameters are decoded
+ * only up to the requested length, other streams are decoded by pdfbox.
+ * Beginning of the data can be extended by {@link Prefix}, which continues
+ * decoding where the previous read stopped.
+ */
+public final class PBStreamPrefixReader {
+
+	private static final Logger LOGGER = Logger.getLogger(PBStreamPrefixReader.class);
+
+	private static final COSName DP = COSName.getPDFName("DP");
+	private static final int BUFFER_SIZE = 4096;
+
+	private PBStreamPrefixReader() {
+		// Disable default constructor
+	}
+
+	/**
+	 * Reads beginning of decoded data of the stream
+	 *
+	 * @param stream stream to read
+	 * @param length number of bytes to read
+	 * @return first {@code length} bytes of decoded data, or all decoded
+	 *         data if the stream is shorter
+	 * @throws IOException when stream can not be decoded
+	 */
+	public static byte[] readPrefix(COSStream stream, int length) throws IOException {
+		try (Prefix prefix = new Prefix(stream)) {
+			return prefix.read(length);
+		}
+	}
+
+	private static boolean isDecodedIncrementally(COSStream stream) {
+		if (stream.getDictionaryObject(COSName.DECODE_PARMS) != null || stream.getDictionaryObject(DP) != null) {
+			return false;
+		}
+		COSBase filters = stream.getFilters();
+		if (filters instanceof COSArray) {
+			COSArray array = (COSArray) filters;
+			if (array.size() == 0) {
+				return true;
+			}
+			filters = array.size() == 1 ? array.getObject(0) : null;
+		}
+		return filters == null || isFlateDecode(filters);
+	}
+
+	private static InputStream getIncrementalStream(COSStream stream) throws IOException {
+		COSBase filters = stream.getFilters();
+		if (filters instanceof COSArray && ((COSArray) filters).size() == 1) {
+			filters = ((COSArray) filters).getObject(0);
+		}
+		InputStream raw = stream.getFilteredStream();
+		return isFlateDecode(filters) ? new InflaterInputStream(raw) : raw;
+	}
+
+	private static boolean isFlateDecode(COSBase filter) {
+		return COSName.FLATE_DECODE.equals(filter) || COSName.FLATE_DECODE_ABBREVIATION.equals(filter);
+	}
+
+	/**
+	 * Beginning of decoded data of a stream kept in a growable buffer. The
+	 * stream is decoded once, reading of a longer prefix decodes only bytes
+	 * after the already read ones.
+	 */
+	public static final class Prefix implements Closeable {
+
+		private final COSStream stream;
+		private InputStream is;
+		private boolean incremental;
+		private byte[] data = new byte[0];
+		private int size = 0;
+		private boolean ended = false;
+
+		/**
+		 * @param stream stream to read, it is not decoded before the first read
+		 */
+		public Prefix(COSStream stream) {
+			this.stream = stream;
+		}
+
+		/**
+		 * Reads beginning of decoded data of the stream
+		 *
+		 * @param length number of bytes to read
+		 * @return first {@code length} bytes of decoded data, or all decoded
+		 *         data if the stream is shorter
+		 * @throws IOException when stream can not be decoded
+		 */
+		public byte[] read(int length) throws IOException {
+			if (length > this.size && !this.ended) {
+				if (this.is == null) {
+					this.incremental = isDecodedIncrementally(this.stream);
+					if (this.incremental) {
+						try {
+							this.is = getIncrementalStream(this.stream);
+						} catch (IOException e) {
+							decodeWholeStream(e);
+						}
+					} else {
+						this.is = this.stream.getUnfilteredStream();
+					}
+				}
+				try {
+					fill(length);
+				} catch (IOException e) {
+					if (!this.incremental) {
+						throw e;
+					}
+					decodeWholeStream(e);
+					fill(length);
+				}
+			}
+			return Arrays.copyOf(this.data, Math.min(length, this.size));
+		}
+
+		private void decodeWholeStream(IOException e) throws IOException {
+			LOGGER.debug("Can not decode beginning of the stream, decoding whole stream", e);
+			close();
+			this.incremental = false;
+			this.size = 0;
+			this.ended = false;
+			this.is = this.stream.getUnfilteredStream();
+		}
+
+		private void fill(int length) throws IOException {
+			while (this.size < length) {
+				if (this.size == this.data.length) {
+					// buffer grows with read data, not with requested length
+					int capacity = (int) Math.min(Math.max(this.data.length * 2L, BUFFER_SIZE), length);
+					this.data = Arrays.copyOf(this.data, capacity);
+				}
+				int read = this.is.read(this.data, this.size, Math.min(length, this.data.length) - this.size);
+				if (read == -1) {
+					this.ended = true;
+					return;
+				}
+				this.size += read;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.is != null) {
+				InputStream current = this.is;
+				this.is = null;
+				current.close();
+			}
+		}
+	}
+}
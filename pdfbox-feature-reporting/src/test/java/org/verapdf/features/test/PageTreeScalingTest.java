@@ -0,0 +1,101 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.test;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.Test;
+import org.verapdf.features.FeatureExtractionResult;
+import org.verapdf.features.FeatureExtractorConfig;
+import org.verapdf.features.FeatureFactory;
+import org.verapdf.features.FeatureObjectType;
+import org.verapdf.features.pb.PBFeatureParser;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that page tree features are extracted in a single traversal of the
+ * page tree: the number of reads of the kids of the root node must not grow
+ * with the number of pages in the document.
+ */
+public class PageTreeScalingTest {
+
+	private static final int NUMBER_OF_PAGES = 1000;
+	// a single traversal reads the kids of the root a few times, searching
+	// the tree for every page reads them at least once per page
+	private static final int MAX_KIDS_READS = 10;
+
+	@Test
+	public void pageTreeIsTraversedOnce() throws IOException {
+		FeatureExtractorConfig config = FeatureFactory.configFromValues(EnumSet.of(FeatureObjectType.PAGE));
+		try (PDDocument document = new PDDocument()) {
+			CountingPagesDictionary root = new CountingPagesDictionary();
+			document.getDocumentCatalog().getCOSObject().setItem(COSName.PAGES, root);
+			for (int i = 0; i < NUMBER_OF_PAGES; ++i) {
+				document.addPage(new PDPage());
+			}
+			root.kidsReads = 0;
+
+			FeatureExtractionResult result = PBFeatureParser.getFeaturesCollection(document, config);
+			assertEquals(NUMBER_OF_PAGES, result.getFeatureTreesForType(FeatureObjectType.PAGE).size());
+			assertTrue("Kids of the page tree root are read " + root.kidsReads + " times for "
+					+ NUMBER_OF_PAGES + " pages", root.kidsReads <= MAX_KIDS_READS);
+		}
+	}
+
+	/**
+	 * Root node of the page tree counting reads of its kids
+	 */
+	private static final class CountingPagesDictionary extends COSDictionary {
+
+		private int kidsReads = 0;
+
+		CountingPagesDictionary() {
+			setItem(COSName.TYPE, COSName.PAGES);
+			setItem(COSName.KIDS, new COSArray());
+			setInt(COSName.COUNT, 0);
+		}
+
+		@Override
+		public COSBase getDictionaryObject(COSName key) {
+			if (COSName.KIDS.equals(key)) {
+				++this.kidsReads;
+			}
+			return super.getDictionaryObject(key);
+		}
+
+		@Override
+		public COSBase getItem(COSName key) {
+			if (COSName.KIDS.equals(key)) {
+				++this.kidsReads;
+			}
+			return super.getItem(key);
+		}
+	}
+}
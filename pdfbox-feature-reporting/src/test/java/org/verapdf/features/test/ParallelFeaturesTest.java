@@ -0,0 +1,67 @@
+/**
+ * This file is part of veraPDF Library PDF Box Features Reporting, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF Library PDF Box Features Reporting is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF Library PDF Box Features Reporting as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF Library PDF Box Features Reporting as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.features.test;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Test;
+import org.verapdf.features.FeatureExtractionResult;
+import org.verapdf.features.FeatureExtractorConfig;
+import org.verapdf.features.FeatureFactory;
+import org.verapdf.features.FeatureObjectType;
+import org.verapdf.features.pb.PBFeatureParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.EnumSet;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Parallel features extraction must give the same result as the serial one.
+ */
+public class ParallelFeaturesTest {
+
+	private static final int PARALLELISM = 4;
+
+	@Test
+	public void parallelExtractionMatchesSerial() throws URISyntaxException, IOException {
+		File pdf = new File(TestNodeGenerator.getSystemIndependentPath("/FR.pdf"));
+		FeatureExtractorConfig config = FeatureFactory.configFromValues(EnumSet.allOf(FeatureObjectType.class));
+		try (PDDocument document = PDDocument.load(pdf, false, true)) {
+			FeatureExtractionResult serial = PBFeatureParser.getFeaturesCollection(document, config);
+			FeatureExtractionResult parallel = PBFeatureParser.getFeaturesCollection(document, config, PARALLELISM);
+			for (FeatureObjectType type : FeatureObjectType.values()) {
+				assertEquals(type.toString(), serial.getFeatureTreesForType(type),
+						parallel.getFeatureTreesForType(type));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nonPositiveParallelismIsRejected() throws URISyntaxException, IOException {
+		File pdf = new File(TestNodeGenerator.getSystemIndependentPath("/FR.pdf"));
+		FeatureExtractorConfig config = FeatureFactory.configFromValues(EnumSet.allOf(FeatureObjectType.class));
+		try (PDDocument document = PDDocument.load(pdf, false, true)) {
+			PBFeatureParser.getFeaturesCollection(document, config, 0);
+		}
+	}
+}
@@ -70,15 +70,25 @@ public class PDFDocumentImpl implements PDFDocument {
 	 * @param document
 	 */
 	public PDFDocumentImpl(PDDocument document) {
+		this(document, null);
+	}
+
+	/**
+	 * @param document
+	 * @param xmp
+	 *            already parsed metadata of the document catalog, or
+	 *            {@code null} to parse it from the metadata stream
+	 */
+	public PDFDocumentImpl(PDDocument document, VeraPDFMeta xmp) {
 		if (document == null) {
 			throw new IllegalArgumentException("Document representation can not be null");
 		}
 		this.document = document;
-		this.metadata = parseMetadata();
+		this.metadata = parseMetadata(xmp);
 		this.info = this.getInfo();
 	}
 
-	private MetadataImpl parseMetadata() {
+	private MetadataImpl parseMetadata(VeraPDFMeta parsedXMP) {
 		PDDocumentCatalog catalog = this.document.getDocumentCatalog();
 		PDMetadata meta = catalog.getMetadata();
 		if (meta == null) {
@@ -92,6 +102,9 @@ public class PDFDocumentImpl implements PDFDocument {
 				excep.printStackTrace();
 			}
 		}
+		if (parsedXMP != null && meta.getStream() != null) {
+			return new MetadataImpl(parsedXMP, meta.getStream());
+		}
 		return parseMetadata(meta);
 	}
 
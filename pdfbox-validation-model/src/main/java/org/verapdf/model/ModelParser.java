@@ -37,7 +37,7 @@ import org.verapdf.features.FeatureExtractorConfig;
 import org.verapdf.features.pb.PBFeatureParser;
 import org.verapdf.metadata.fixer.entity.PDFDocument;
 import org.verapdf.metadata.fixer.impl.pb.model.PDFDocumentImpl;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosDocument;
 import org.verapdf.pdfa.Foundries;
 import org.verapdf.pdfa.PDFAParser;
@@ -67,20 +67,21 @@ public final class ModelParser implements PDFAParser {
 
 	private final PDFAFlavour flavour;
 
+	private final DocumentContext context = new DocumentContext();
+
 	private ModelParser(final InputStream docStream, PDFAFlavour flavour) throws IOException {
 		this.document = PDDocument.load(docStream, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
+		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, this.context) : flavour;
 	}
 
 	private ModelParser(final File pdfFile, PDFAFlavour flavour) throws IOException {
 		this.document = PDDocument.load(pdfFile, false, true);
-		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document) : flavour;
+		this.flavour = (flavour == PDFAFlavour.NO_FLAVOUR) ? obtainFlavour(this.document, this.context) : flavour;
 	}
 
 	public static ModelParser createModelWithFlavour(InputStream toLoad, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
 			return new ModelParser(toLoad, flavour);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
@@ -92,7 +93,6 @@ public final class ModelParser implements PDFAParser {
 	public static ModelParser createModelWithFlavour(File pdfFile, PDFAFlavour flavour)
 			throws ModelParsingException, EncryptedPdfException {
 		try {
-			cleanUp();
 			return new ModelParser(pdfFile, flavour);
 		} catch (InvalidPasswordException excep) {
 			throw new EncryptedPdfException("The PDF stream appears to be encrypted.", excep);
@@ -101,17 +101,17 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
-	private static PDFAFlavour obtainFlavour(PDDocument document) {
+	private static PDFAFlavour obtainFlavour(PDDocument document, DocumentContext context) {
 		PDFAFlavour defaultFlavour = Foundries.defaultInstance().defaultFlavour();
 		if (document == null || document.getDocumentCatalog() == null) {
 			return defaultFlavour;
 		}
 		PDMetadata metadata = document.getDocumentCatalog().getMetadata();
-		if (metadata == null) {
+		if (metadata == null || metadata.getStream() == null) {
 			return defaultFlavour;
 		}
-		try (InputStream is = metadata.exportXMPMetadata()) {
-			VeraPDFMeta veraPDFMeta = VeraPDFMeta.parse(is);
+		try {
+			VeraPDFMeta veraPDFMeta = context.getXMPCache().getMetadata(metadata.getStream());
 			Integer identificationPart = veraPDFMeta.getIdentificationPart();
 			String identificationConformance = veraPDFMeta.getIdentificationConformance();
 			PDFAFlavour pdfaFlavour = PDFAFlavour.byFlavourId(identificationPart + identificationConformance);
@@ -130,13 +130,22 @@ public final class ModelParser implements PDFAParser {
 		}
 	}
 
-	private static void cleanUp() {
-		StaticContainers.clearAllContainers();
-	}
-
 	@Override
 	public PDFDocument getPDFDocument() {
-		return new PDFDocumentImpl(this.document);
+		return new PDFDocumentImpl(this.document, getCatalogMetadata());
+	}
+
+	private VeraPDFMeta getCatalogMetadata() {
+		PDMetadata metadata = this.document.getDocumentCatalog().getMetadata();
+		if (metadata != null && metadata.getStream() != null) {
+			try {
+				// metadata fixer modifies the metadata, so it gets a private copy
+				return this.context.getXMPCache().getMetadataCopy(metadata.getStream());
+			} catch (IOException | XMPException e) {
+				logger.debug("Problems with parsing metadata. " + e.getMessage(), e);
+			}
+		}
+		return null;
 	}
 
 	@Override
@@ -156,7 +165,20 @@ public final class ModelParser implements PDFAParser {
 	 */
 	@Override
 	public org.verapdf.model.baselayer.Object getRoot() {
-		return new PBCosDocument(this.document, this.flavour);
+		return new PBCosDocument(this.context, this.document, this.flavour);
+	}
+
+	/**
+	 * Sets whether indirect dictionaries, streams and arrays are validated on
+	 * every path leading to them, so errors of shared objects are reported for
+	 * each path. This is the default, value {@code false} validates objects
+	 * reached by several paths once.
+	 *
+	 * @param exhaustive
+	 *            false to validate shared objects once
+	 */
+	public void setExhaustive(boolean exhaustive) {
+		this.context.setExhaustive(exhaustive);
 	}
 
 	@Override
@@ -20,12 +20,15 @@
  */
 package org.verapdf.model.factory.colors;
 
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.color.*;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstractPattern;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDShadingPattern;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.colors.*;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDShadingPattern;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDTilingPattern;
@@ -69,9 +72,9 @@ public class ColorSpaceFactory {
 	 *         {@code colorSpace} argument {@code null} or unsupported type
 	 */
 	public static PDColorSpace getColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
-			PDDocument document, PDFAFlavour flavour) {
-		return getColorSpace(colorSpace, null, PDInheritableResources.EMPTY_EXTENDED_RESOURCES, 0, false, document,
-				flavour);
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		return getColorSpace(colorSpace, null, PDInheritableResources.EMPTY_EXTENDED_RESOURCES, 0, false, context,
+				document, flavour);
 	}
 
 	/**
@@ -90,27 +93,11 @@ public class ColorSpaceFactory {
 	 */
 	public static PDColorSpace getColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
 			PDAbstractPattern pattern, PDInheritableResources resources, int opm, boolean overprintingFlag,
-			PDDocument document, PDFAFlavour flavour) {
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		if (colorSpace == null) {
 			return null;
 		}
-		if (StaticContainers.getCachedColorSpaces().containsKey(colorSpace)) {
-			return StaticContainers.getCachedColorSpaces().get(colorSpace);
-		}
-		PDColorSpace result;
 		switch (colorSpace.getName()) {
-		case CAL_GRAY:
-			result = new PBoxPDCalGray((PDCalGray) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
-		case CAL_RGB:
-			result = new PBoxPDCalRGB((PDCalRGB) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
-		case DEVICE_N:
-			result = new PBoxPDDeviceN((PDDeviceN) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
 		case DEVICE_CMYK:
 			if (colorSpace.isInherited()) {
 				return PBoxPDDeviceCMYK.getInheritedInstance();
@@ -126,30 +113,47 @@ public class ColorSpaceFactory {
 				return PBoxPDDeviceGray.getInheritedInstance();
 			}
 			return PBoxPDDeviceGray.getInstance();
+		case PATTERN:
+			return getPattern(pattern, resources, context, document, flavour);
+		default:
+			break;
+		}
+		CountingCache<CacheKey, PDColorSpace> cachedColorSpaces = context.getCachedColorSpaces();
+		// ICCBasedCMYK color space depends on extgstate it is used with
+		boolean isCMYK = ICC_BASED.equals(colorSpace.getName()) && colorSpace.getNumberOfComponents() == 4;
+		CacheKey key = new CacheKey(colorSpace.getCOSObject(), colorSpace.isInherited(),
+				isCMYK ? opm : 0, isCMYK && overprintingFlag);
+		PDColorSpace result = cachedColorSpaces.get(key);
+		if (result != null) {
+			return result;
+		}
+		result = createColorSpace(colorSpace, opm, overprintingFlag, context, document, flavour);
+		if (result != null) {
+			cachedColorSpaces.put(key, result);
+		}
+		return result;
+	}
+
+	private static PDColorSpace createColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace,
+			int opm, boolean overprintingFlag, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		switch (colorSpace.getName()) {
+		case CAL_GRAY:
+			return new PBoxPDCalGray((PDCalGray) colorSpace);
+		case CAL_RGB:
+			return new PBoxPDCalRGB((PDCalRGB) colorSpace);
+		case DEVICE_N:
+			return new PBoxPDDeviceN((PDDeviceN) colorSpace, context, document, flavour);
 		case ICC_BASED:
 			if (colorSpace.getNumberOfComponents() != 4) {
-				result = new PBoxPDICCBased((PDICCBased) colorSpace);
-				StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-				return result;
+				return new PBoxPDICCBased((PDICCBased) colorSpace);
 			}
-			// we don't want to cache ICCBasedCMYK color space because it can be
-			// used with different extgstates
-			result = new PBoxPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag);
-			return result;
+			return new PBoxPDICCBasedCMYK((PDICCBased) colorSpace, opm, overprintingFlag);
 		case LAB:
-			result = new PBoxPDLab((PDLab) colorSpace);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
+			return new PBoxPDLab((PDLab) colorSpace);
 		case SEPARATION:
-			result = new PBoxPDSeparation((PDSeparation) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
+			return new PBoxPDSeparation((PDSeparation) colorSpace, context, document, flavour);
 		case INDEXED:
-			result = new PBoxPDIndexed((PDIndexed) colorSpace, document, flavour);
-			StaticContainers.getCachedColorSpaces().put(colorSpace, result);
-			return result;
-		case PATTERN:
-			return getPattern(pattern, resources, document, flavour);
+			return new PBoxPDIndexed((PDIndexed) colorSpace, context, document, flavour);
 		default:
 			return null;
 		}
@@ -167,18 +171,66 @@ public class ColorSpaceFactory {
 	 * @return {@code <? extends PDPattern>} object or {@code null} if
 	 *         {@code pattern} argument is {@code null}
 	 */
-	public static PDPattern getPattern(PDAbstractPattern pattern, PDInheritableResources resources, PDDocument document,
-			PDFAFlavour flavour) {
+	public static PDPattern getPattern(PDAbstractPattern pattern, PDInheritableResources resources,
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		if (pattern != null) {
 			if (pattern.getPatternType() == PDAbstractPattern.TYPE_SHADING_PATTERN) {
-				return new PBoxPDShadingPattern((PDShadingPattern) pattern, document, flavour);
+				return new PBoxPDShadingPattern((PDShadingPattern) pattern, context, document, flavour);
 			} else if (pattern.getPatternType() == PDAbstractPattern.TYPE_TILING_PATTERN) {
 				PDTilingPattern tiling = (PDTilingPattern) pattern;
 				PDInheritableResources pdResources = resources.getExtendedResources(tiling.getResources());
-				return new PBoxPDTilingPattern(tiling, pdResources, document, flavour);
+				return new PBoxPDTilingPattern(tiling, pdResources, context, document, flavour);
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Key of the color space in the document cache. Color spaces are compared
+	 * by object key of their array, or by identity of the array for direct
+	 * objects, as pdfbox creates new color space objects for every lookup in
+	 * resources. ICCBasedCMYK color spaces are also distinguished by overprint
+	 * mode and overprint flag of the graphics state they are used with.
+	 */
+	public static final class CacheKey {
+
+		private final COSObjectKey objectKey;
+		private final COSBase object;
+		private final boolean inherited;
+		private final int opm;
+		private final boolean overprintingFlag;
+
+		public CacheKey(COSBase object, boolean inherited, int opm, boolean overprintingFlag) {
+			this.objectKey = object == null ? null : object.getKey();
+			this.object = this.objectKey == null ? object : null;
+			this.inherited = inherited;
+			this.opm = opm;
+			this.overprintingFlag = overprintingFlag;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey that = (CacheKey) o;
+			return this.object == that.object
+					&& this.inherited == that.inherited
+					&& this.opm == that.opm
+					&& this.overprintingFlag == that.overprintingFlag
+					&& (this.objectKey == null ? that.objectKey == null : this.objectKey.equals(that.objectKey));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.objectKey == null ? System.identityHashCode(this.object) : this.objectKey.hashCode();
+			result = 31 * result + (this.inherited ? 1 : 0);
+			result = 31 * result + this.opm;
+			result = 31 * result + (this.overprintingFlag ? 1 : 0);
+			return result;
+		}
+	}
 }
@@ -20,6 +20,8 @@
  */
 package org.verapdf.model.factory.font;
 
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.font.PDTrueTypeFont;
@@ -27,6 +29,8 @@ import org.apache.pdfbox.pdmodel.font.PDType1CFont;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.pdfbox.pdmodel.font.PDType3Font;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDTrueTypeFont;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDType0Font;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDType1Font;
@@ -63,20 +67,45 @@ public final class FontFactory {
 
 	/**
 	 * Transform Apache PDFBox font representation to
-	 * VeraPDF font representation
+	 * VeraPDF font representation. Fonts are obtained from the document
+	 * cache, so rules of the font painted by many text show operators are
+	 * checked once per rendering mode.
 	 *
 	 * @param pdfboxFont Apache PDFBox font representation
 	 * @return VeraPDF font representation
 	 */
 	public static PDFont parseFont(
 			org.apache.pdfbox.pdmodel.font.PDFont pdfboxFont, RenderingMode renderingMode,
-			PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
+			PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		if (pdfboxFont == null) {
 			return null;
 		}
+		COSObjectKey objectKey = pdfboxFont.getCOSObject().getKey();
+		if (objectKey == null) {
+			return createFont(pdfboxFont, renderingMode, resources, context, document, flavour);
+		}
+		// resources of type 3 font glyphs are extended by the painting resources
+		PDResources currentResources = resources.getCurrentResources();
+		COSDictionary paintingResources = TYPE_3.equals(pdfboxFont.getSubType()) && currentResources != null
+				? currentResources.getCOSObject() : null;
+		CacheKey key = new CacheKey(objectKey, renderingMode, pdfboxFont.isInherited(), paintingResources);
+		CountingCache<CacheKey, PDFont> cache = context.getCachedFonts();
+		PDFont result = cache.get(key);
+		if (result == null) {
+			result = createFont(pdfboxFont, renderingMode, resources, context, document, flavour);
+			if (result != null) {
+				cache.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	private static PDFont createFont(
+			org.apache.pdfbox.pdmodel.font.PDFont pdfboxFont, RenderingMode renderingMode,
+			PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		switch (pdfboxFont.getSubType()) {
 			case TYPE_0:
-				return new PBoxPDType0Font(pdfboxFont, renderingMode, document, flavour);
+				return new PBoxPDType0Font(pdfboxFont, renderingMode, context, document, flavour);
 			case TYPE_1:
 			case MM_TYPE_1:
 				if (pdfboxFont instanceof PDType1Font) {
@@ -87,7 +116,7 @@ public final class FontFactory {
 			case TYPE_3: {
 				PDResources fontResources = ((PDType3Font) pdfboxFont).getResources();
 				PDInheritableResources pdResources = resources.getExtendedResources(fontResources);
-				return new PBoxPDType3Font(pdfboxFont, renderingMode, pdResources, document, flavour);
+				return new PBoxPDType3Font(pdfboxFont, renderingMode, pdResources, context, document, flavour);
 			}
 			case TRUE_TYPE:
 				return new PBoxPDTrueTypeFont((PDTrueTypeFont) pdfboxFont, renderingMode);
@@ -99,8 +128,52 @@ public final class FontFactory {
 
 	// for testing purposes
 	public static PDFont parseFont(
-			org.apache.pdfbox.pdmodel.font.PDFont pdfboxFont, PDDocument document, PDFAFlavour flavour) {
-		return parseFont(pdfboxFont, RenderingMode.FILL, PDInheritableResources.EMPTY_EXTENDED_RESOURCES, document, flavour);
+			org.apache.pdfbox.pdmodel.font.PDFont pdfboxFont, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		return parseFont(pdfboxFont, RenderingMode.FILL, PDInheritableResources.EMPTY_EXTENDED_RESOURCES, context, document, flavour);
 	}
 
+	/**
+	 * Key of the font in the document cache. Font dictionaries are compared
+	 * by object key, resources extending type 3 font resources are compared
+	 * by identity of their dictionary.
+	 */
+	public static final class CacheKey {
+
+		private final COSObjectKey objectKey;
+		private final RenderingMode renderingMode;
+		private final boolean isInherited;
+		private final COSDictionary paintingResources;
+
+		CacheKey(COSObjectKey objectKey, RenderingMode renderingMode, boolean isInherited,
+				 COSDictionary paintingResources) {
+			this.objectKey = objectKey;
+			this.renderingMode = renderingMode;
+			this.isInherited = isInherited;
+			this.paintingResources = paintingResources;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey that = (CacheKey) o;
+			return this.isInherited == that.isInherited
+					&& this.renderingMode == that.renderingMode
+					&& this.paintingResources == that.paintingResources
+					&& this.objectKey.equals(that.objectKey);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.objectKey.hashCode();
+			result = 31 * result + (this.renderingMode != null ? this.renderingMode.hashCode() : 0);
+			result = 31 * result + (this.isInherited ? 1 : 0);
+			result = 31 * result + System.identityHashCode(this.paintingResources);
+			return result;
+		}
+	}
 }
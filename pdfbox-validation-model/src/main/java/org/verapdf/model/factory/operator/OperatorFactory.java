@@ -22,8 +22,10 @@ package org.verapdf.model.factory.operator;
 
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.operator.Operator;
 import org.verapdf.model.tools.constants.Operators;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -110,23 +112,75 @@ public final class OperatorFactory {
      * @return list of {@link Operator} objects of veraPDF-library
      */
     public List<Operator> operatorsFromTokens(List<Object> pdfBoxTokens,
-                                              PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
+                                              PDInheritableResources resources, DocumentContext context,
+                                              PDDocument document, PDFAFlavour flavour) {
         List<Operator> result = new ArrayList<>();
-        List<COSBase> arguments = new ArrayList<>();
-        this.isLastParsedContainsTransparency = false;
-        OperatorParser parser = new OperatorParser(document, flavour);
-
+        TokenProcessor processor = new TokenProcessor(result, resources, context, document, flavour);
         for (Object pdfBoxToken : pdfBoxTokens) {
+            processor.process(pdfBoxToken);
+        }
+        return result;
+    }
+
+    /**
+     * Converts content stream to the corresponding {@link Operator} objects of
+     * veraPDF-library. Tokens are pulled from the stream parser one by one, so
+     * the full list of pdfbox tokens is never kept in memory, and arguments
+     * are buffered for one operator at a time. The list of converted operators
+     * is built in full: validator obtains linked objects by size and index and
+     * pushes all of them at once, and every operator depends on the graphic
+     * state left by the previous ones, so memory stays proportional to the
+     * number of operators, not to the number of tokens plus operators.
+     *
+     * @param streamParser parser of the content stream, not yet parsed
+     * @param resources    resources for a given stream
+     * @return list of {@link Operator} objects of veraPDF-library
+     * @throws IOException if the stream parser can not read next token
+     */
+    public List<Operator> operatorsFromStream(PDFStreamParser streamParser,
+                                              PDInheritableResources resources, DocumentContext context,
+                                              PDDocument document, PDFAFlavour flavour)
+            throws IOException {
+        List<Operator> result = new ArrayList<>();
+        TokenProcessor processor = new TokenProcessor(result, resources, context, document, flavour);
+        Object pdfBoxToken;
+        while ((pdfBoxToken = streamParser.parseNextToken()) != null) {
+            processor.process(pdfBoxToken);
+        }
+        return result;
+    }
+
+    /**
+     * Accumulates arguments of the current operator and converts operator
+     * together with its arguments as soon as operator token is reached.
+     */
+    private final class TokenProcessor {
+
+        private final List<Operator> result;
+        private final PDInheritableResources resources;
+        private final OperatorParser parser;
+
+        private List<COSBase> arguments = new ArrayList<>();
+
+        TokenProcessor(List<Operator> result, PDInheritableResources resources,
+                       DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+            this.result = result;
+            this.resources = resources;
+            this.parser = new OperatorParser(context, document, flavour);
+            OperatorFactory.this.isLastParsedContainsTransparency = false;
+        }
+
+        void process(Object pdfBoxToken) {
             if (pdfBoxToken instanceof COSBase) {
-                arguments.add((COSBase) pdfBoxToken);
+                this.arguments.add((COSBase) pdfBoxToken);
             } else if (pdfBoxToken instanceof org.apache.pdfbox.contentstream.operator.Operator) {
                 try {
-                    parser.parseOperator(result,
+                    this.parser.parseOperator(this.result,
                             (org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken,
-                            resources, arguments);
+                            this.resources, this.arguments);
 
                     String parsedOperatorType = ((org.apache.pdfbox.contentstream.operator.Operator) pdfBoxToken).getName();
-                    GraphicState graphicState = parser.getGraphicState();
+                    GraphicState graphicState = this.parser.getGraphicState();
                     if (PAINT_OPERATORS_WITHOUT_TEXT.containsKey(parsedOperatorType)) {
                         isLastParsedContainsTransparency |= PAINT_OPERATORS_WITHOUT_TEXT.get(parsedOperatorType).containsTransparency(graphicState);
                     } else {
@@ -141,12 +195,13 @@ public final class OperatorFactory {
                 } catch (IOException e) {
                     LOGGER.debug(e);
                 }
-                arguments = new ArrayList<>();
+                // operators keep reference to their arguments, so the buffer
+                // can not be reused and holds arguments of one operator only
+                this.arguments = new ArrayList<>();
             } else {
                 LOGGER.debug(MSG_UNEXPECTED_OBJECT_TYPE
                         + pdfBoxToken.getClass().getName());
             }
         }
-        return result;
     }
 }
@@ -38,6 +38,7 @@ import org.apache.pdfbox.pdmodel.graphics.shading.PDShading;
 import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.operator.color.PBOpColor;
 import org.verapdf.model.impl.pb.operator.color.PBOpSetColor;
 import org.verapdf.model.impl.pb.operator.generalgs.*;
@@ -68,6 +69,7 @@ import org.verapdf.model.impl.pb.operator.type3font.PBOp_d1;
 import org.verapdf.model.impl.pb.operator.xobject.PBOp_Do;
 import org.verapdf.model.impl.pb.pd.colors.PBoxPDColorSpace;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDFont;
+import org.verapdf.model.impl.pb.pd.font.PBoxPDType3Font;
 import org.verapdf.model.impl.pb.pd.images.PBoxPDXObject;
 import org.verapdf.model.operator.Operator;
 import org.verapdf.model.tools.constants.Operators;
@@ -77,6 +79,7 @@ import org.verapdf.pdfa.flavours.PDFAFlavour;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 
@@ -93,21 +96,58 @@ class OperatorParser {
 	private static final String MSG_PROBLEM_OBTAINING_RESOURCE = "Problem encountered while obtaining resources for ";
 
 	private final Deque<GraphicState> graphicStateStack = new ArrayDeque<>();
-	private final GraphicState graphicState = new GraphicState();
+	private GraphicState graphicState = new GraphicState();
+	// true if current graphic state has been handed out to an operator or
+	// saved in the stack, so it has to be copied before the next change
+	private boolean isGraphicStateShared = false;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
-	OperatorParser(PDDocument document, PDFAFlavour flavour) {
+	OperatorParser(DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		// limit the scope
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
-	public GraphicState getGraphicState() {
-		GraphicState gs = new GraphicState();
-		gs.copyProperties(this.graphicState);
-		return gs;
+	/**
+	 * @return current graphic state. Returned object is the live state of the
+	 * parser and must not be changed by the caller
+	 */
+	GraphicState getGraphicState() {
+		return this.graphicState;
+	}
+
+	/**
+	 * @return immutable snapshot of the current graphic state. Snapshot is
+	 * shared until the next change of the state, so operators parsed without
+	 * changes in between do not allocate new graphic states
+	 */
+	private GraphicState getGraphicStateSnapshot() {
+		this.isGraphicStateShared = true;
+		return this.graphicState;
+	}
+
+	private GraphicState getMutableGraphicState() throws CloneNotSupportedException {
+		if (this.isGraphicStateShared) {
+			this.graphicState = this.graphicState.clone();
+			this.isGraphicStateShared = false;
+		}
+		return this.graphicState;
+	}
+
+	private void setStrokeColorSpace(PDColorSpace colorSpace) throws CloneNotSupportedException {
+		if (this.graphicState.getStrokeColorSpace() != colorSpace) {
+			getMutableGraphicState().setStrokeColorSpace(colorSpace);
+		}
+	}
+
+	private void setFillColorSpace(PDColorSpace colorSpace) throws CloneNotSupportedException {
+		if (this.graphicState.getFillColorSpace() != colorSpace) {
+			getMutableGraphicState().setFillColorSpace(colorSpace);
+		}
 	}
 
 	void parseOperator(List<Operator> operators,
@@ -119,7 +159,7 @@ class OperatorParser {
 		switch (operatorName) {
 			// GENERAL GS
 			case Operators.D_SET_DASH:
-				operators.add(new PBOp_d(arguments, this.document, this.flavour));
+				operators.add(new PBOp_d(arguments, this.context, this.document, this.flavour));
 				break;
 			case Operators.GS:
 				this.addExtGState(operators, resources, arguments);
@@ -145,19 +185,19 @@ class OperatorParser {
 
 			// MARKED CONTENT
 			case Operators.BMC:
-				operators.add(new PBOp_BMC(arguments, document, flavour));
+				operators.add(new PBOp_BMC(arguments, context, document, flavour));
 				break;
 			case Operators.BDC:
-				operators.add(new PBOp_BDC(arguments, document, flavour));
+				operators.add(new PBOp_BDC(arguments, context, document, flavour));
 				break;
 			case Operators.EMC:
-				operators.add(new PBOp_EMC(arguments, document, flavour));
+				operators.add(new PBOp_EMC(arguments, context, document, flavour));
 				break;
 			case Operators.MP:
-				operators.add(new PBOp_MP(arguments, document, flavour));
+				operators.add(new PBOp_MP(arguments, context, document, flavour));
 				break;
 			case Operators.DP:
-				operators.add(new PBOp_DP(arguments, document, flavour));
+				operators.add(new PBOp_DP(arguments, context, document, flavour));
 				break;
 
 			// CLIP
@@ -172,52 +212,52 @@ class OperatorParser {
 			case Operators.G_STROKE: {
 				cs = resources == null ? PDDeviceGray.INSTANCE :
 						resources.getColorSpace(COSName.DEVICEGRAY);
-				this.graphicState.setStrokeColorSpace(cs);
+				this.setStrokeColorSpace(cs);
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			}
 			case Operators.G_FILL: {
 				cs = resources == null ? PDDeviceGray.INSTANCE :
 						resources.getColorSpace(COSName.DEVICEGRAY);
-				this.graphicState.setFillColorSpace(cs);
+				this.setFillColorSpace(cs);
 				operators.add(this.getFillColorOperator(arguments));
 				break;
 			}
 			case Operators.RG_STROKE: {
 				cs = resources == null ? PDDeviceRGB.INSTANCE :
 						resources.getColorSpace(COSName.DEVICERGB);
-				this.graphicState.setStrokeColorSpace(cs);
+				this.setStrokeColorSpace(cs);
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			}
 			case Operators.RG_FILL: {
 				cs = resources == null ? PDDeviceRGB.INSTANCE :
 						resources.getColorSpace(COSName.DEVICERGB);
-				this.graphicState.setFillColorSpace(cs);
+				this.setFillColorSpace(cs);
 				operators.add(this.getFillColorOperator(arguments));
 				break;
 			}
 			case Operators.K_STROKE: {
 				cs = resources == null ? PDDeviceCMYK.INSTANCE :
 						resources.getColorSpace(COSName.DEVICECMYK);
-				this.graphicState.setStrokeColorSpace(cs);
+				this.setStrokeColorSpace(cs);
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			}
 			case Operators.K_FILL: {
 				cs = resources == null ? PDDeviceCMYK.INSTANCE :
 						resources.getColorSpace(COSName.DEVICECMYK);
-				this.graphicState.setFillColorSpace(cs);
+				this.setFillColorSpace(cs);
 				operators.add(this.getFillColorOperator(arguments));
 				break;
 			}
 			case Operators.CS_STROKE:
-				this.graphicState.setStrokeColorSpace(getColorSpaceFromResources(
+				this.setStrokeColorSpace(getColorSpaceFromResources(
 						resources, getLastCOSName(arguments)));
 				operators.add(this.getStrokeColorOperator(arguments));
 				break;
 			case Operators.CS_FILL:
-				this.graphicState.setFillColorSpace(getColorSpaceFromResources(
+				this.setFillColorSpace(getColorSpaceFromResources(
 						resources, getLastCOSName(arguments)));
 				operators.add(this.getFillColorOperator(arguments));
 				break;
@@ -258,22 +298,22 @@ class OperatorParser {
 
 			// TEXT SHOW
 			case Operators.TJ_SHOW:
-				PBOp_Tj tj = new PBOp_Tj(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_Tj tj = new PBOp_Tj(arguments, getGraphicStateSnapshot(), resources, this.context, this.document, this.flavour);
 				addFontAndColorSpace(tj);
 				operators.add(tj);
 				break;
 			case Operators.TJ_SHOW_POS:
-				PBOp_TJ_Big tj_big = new PBOp_TJ_Big(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_TJ_Big tj_big = new PBOp_TJ_Big(arguments, getGraphicStateSnapshot(), resources, this.context, this.document, this.flavour);
 				addFontAndColorSpace(tj_big);
 				operators.add(tj_big);
 				break;
 			case Operators.QUOTE:
-				PBOp_Quote quote = new PBOp_Quote(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_Quote quote = new PBOp_Quote(arguments, getGraphicStateSnapshot(), resources, this.context, this.document, this.flavour);
 				addFontAndColorSpace(quote);
 				operators.add(quote);
 				break;
 			case Operators.DOUBLE_QUOTE:
-				PBOp_DoubleQuote doubleQuote = new PBOp_DoubleQuote(arguments, this.graphicState.clone(), resources, this.document, this.flavour);
+				PBOp_DoubleQuote doubleQuote = new PBOp_DoubleQuote(arguments, getGraphicStateSnapshot(), resources, this.context, this.document, this.flavour);
 				addFontAndColorSpace(doubleQuote);
 				operators.add(doubleQuote);
 				break;
@@ -282,14 +322,22 @@ class OperatorParser {
 			case Operators.TZ:
 				operators.add(new PBOp_Tz(arguments));
 				break;
-			case Operators.TR:
-				this.graphicState.setRenderingMode(getRenderingMode(arguments));
+			case Operators.TR: {
+				RenderingMode renderingMode = getRenderingMode(arguments);
+				if (this.graphicState.getRenderingMode() != renderingMode) {
+					getMutableGraphicState().setRenderingMode(renderingMode);
+				}
 				operators.add(new PBOp_Tr(arguments));
 				break;
-			case Operators.TF:
-				this.graphicState.setFontName(getFirstCOSName(arguments));
+			}
+			case Operators.TF: {
+				COSName fontName = getFirstCOSName(arguments);
+				if (this.graphicState.getFontName() != fontName) {
+					getMutableGraphicState().setFontName(fontName);
+				}
 				operators.add(new PBOp_Tf(arguments));
 				break;
+			}
 			case Operators.TC:
 				operators.add(new PBOp_Tc(arguments));
 				break;
@@ -313,7 +361,7 @@ class OperatorParser {
 
 			// INLINE IMAGE
 			case Operators.BI:
-				addInlineImage(operators, pdfBoxOperator, resources, arguments, document, flavour);
+				addInlineImage(operators, pdfBoxOperator, resources, arguments, context, document, flavour);
 				break;
 
 			// COMPABILITY
@@ -350,60 +398,60 @@ class OperatorParser {
 			// PATH PAINT
 			case Operators.B_CLOSEPATH_FILL_STROKE:
 				PBOp_b_closepath_fill_stroke b_closepath_fill_stroke = new PBOp_b_closepath_fill_stroke(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(b_closepath_fill_stroke);
 				operators.add(b_closepath_fill_stroke);
 				break;
 			case Operators.B_FILL_STROKE:
 				PBOp_B_fill_stroke b_fill_stroke = new PBOp_B_fill_stroke(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(b_fill_stroke);
 				operators.add(b_fill_stroke);
 				break;
 			case Operators.B_STAR_CLOSEPATH_EOFILL_STROKE:
 				PBOp_bstar_closepath_eofill_stroke bstar_closepath_eofill_stroke = new PBOp_bstar_closepath_eofill_stroke(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(bstar_closepath_eofill_stroke);
 				operators.add(bstar_closepath_eofill_stroke);
 				break;
 			case Operators.B_STAR_EOFILL_STROKE:
 				PBOp_BStar_eofill_stroke bStar_eofill_stroke = new PBOp_BStar_eofill_stroke(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(bStar_eofill_stroke);
 				operators.add(bStar_eofill_stroke);
 				break;
 			case Operators.F_FILL:
 				PBOp_f_fill f_fill = new PBOp_f_fill(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(f_fill);
 				operators.add(f_fill);
 				break;
 			case Operators.F_FILL_OBSOLETE:
 				PBOp_F_fill_obsolete f_fill_obsolete = new PBOp_F_fill_obsolete(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(f_fill_obsolete);
 				operators.add(f_fill_obsolete);
 				break;
 			case Operators.F_STAR_FILL:
 				PBOp_FStar fStar = new PBOp_FStar(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(fStar);
 				operators.add(fStar);
 				break;
 			case Operators.N:
-				PBOp_n op_n = new PBOp_n(arguments, document, flavour);
+				PBOp_n op_n = new PBOp_n(arguments, context, document, flavour);
 				addColorSpace(op_n);
 				operators.add(op_n);
 				break;
 			case Operators.S_CLOSE_STROKE:
 				PBOp_s_close_stroke s_close_stroke = new PBOp_s_close_stroke(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(s_close_stroke);
 				operators.add(s_close_stroke);
 				break;
 			case Operators.S_STROKE:
 				PBOp_S_stroke s_stroke = new PBOp_S_stroke(arguments,
-						this.graphicState, resources, document, flavour);
+						this.graphicState, resources, context, document, flavour);
 				addColorSpace(s_stroke);
 				operators.add(s_stroke);
 				break;
@@ -411,7 +459,7 @@ class OperatorParser {
 			// SHADING
 			case Operators.SH:
 				operators.add(new PBOp_sh(arguments, getShadingFromResources(resources,
-						getLastCOSName(arguments)), document, flavour));
+						getLastCOSName(arguments)), context, document, flavour));
 				break;
 
 			// SPECIAL GS
@@ -420,23 +468,26 @@ class OperatorParser {
 				break;
 			case Operators.Q_GRESTORE:
 				if (!graphicStateStack.isEmpty()) {
-					this.graphicState.copyProperties(this.graphicStateStack.pop());
+					this.graphicState = this.graphicStateStack.pop();
+					this.isGraphicStateShared = true;
 				}
 				operators.add(new PBOp_Q_grestore(arguments));
 				break;
 			case Operators.Q_GSAVE:
-				this.graphicStateStack.push(this.graphicState.clone());
+				this.graphicStateStack.push(getGraphicStateSnapshot());
 				operators.add(new PBOp_q_gsave(arguments, this.graphicStateStack.size()));
 				break;
 
 			// XOBJECT
 			case Operators.DO:
 				PBOp_Do op = new PBOp_Do(arguments, getXObjectFromResources(resources,
-						getLastCOSName(arguments)), resources, document, flavour);
+						getLastCOSName(arguments)), resources, context, document, flavour);
 				List<org.verapdf.model.pdlayer.PDXObject> pdxObjects = op.getXObject();
 				if (!pdxObjects.isEmpty()) {
 					PBoxPDXObject xobj = (PBoxPDXObject) pdxObjects.get(0);
-					this.graphicState.setVeraXObject(xobj);
+					if (this.graphicState.getVeraXObject() != xobj) {
+						getMutableGraphicState().setVeraXObject(xobj);
+					}
 				}
 				operators.add(op);
 				break;
@@ -448,61 +499,66 @@ class OperatorParser {
 
 	private PBOpColor getStrokeColorOperator(List<COSBase> arguments) {
 		org.verapdf.model.pdlayer.PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(
-				graphicState.getStrokeColorSpace(), document, flavour);
+				graphicState.getStrokeColorSpace(), context, document, flavour);
 		return new PBOpColor(arguments, colorSpace);
 	}
 
 	private PBOpColor getFillColorOperator(List<COSBase> arguments) {
 		org.verapdf.model.pdlayer.PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(
-				graphicState.getFillColorSpace(), document, flavour);
+				graphicState.getFillColorSpace(), context, document, flavour);
 		return new PBOpColor(arguments, colorSpace);
 	}
 
 	private void setFillPatternColorSpace(List<Operator> operators, PDColorSpace colorSpace,
-										  PDInheritableResources resources, List<COSBase> arguments) {
+										  PDInheritableResources resources, List<COSBase> arguments)
+			throws CloneNotSupportedException {
 		if (colorSpace != null &&
 				ColorSpaceFactory.PATTERN.equals(colorSpace.getName())) {
-			graphicState.setFillPattern(getPatternFromResources(resources,
+			getMutableGraphicState().setFillPattern(getPatternFromResources(resources,
 					getLastCOSName(arguments)));
 		}
 		org.verapdf.model.pdlayer.PDColorSpace modelColorSpace = ColorSpaceFactory.getColorSpace(
-				graphicState.getFillColorSpace(), document, flavour);
+				graphicState.getFillColorSpace(), context, document, flavour);
 		operators.add(new PBOpColor(arguments, modelColorSpace));
 	}
 
 	private void setStrokePatternColorSpace(List<Operator> operators, PDColorSpace colorSpace,
-											PDInheritableResources resources, List<COSBase> arguments) {
+											PDInheritableResources resources, List<COSBase> arguments)
+			throws CloneNotSupportedException {
 		if (colorSpace != null &&
 				ColorSpaceFactory.PATTERN.equals(colorSpace.getName())) {
-			graphicState.setStrokePattern(getPatternFromResources(resources,
+			getMutableGraphicState().setStrokePattern(getPatternFromResources(resources,
 					getLastCOSName(arguments)));
 		}
 		org.verapdf.model.pdlayer.PDColorSpace modelColorSpace = ColorSpaceFactory.getColorSpace(
-				graphicState.getStrokeColorSpace(), document, flavour);
+				graphicState.getStrokeColorSpace(), context, document, flavour);
 		operators.add(new PBOpColor(arguments, modelColorSpace));
 	}
 
 	private void addExtGState(List<Operator> operators,
-							  PDInheritableResources resources, List<COSBase> arguments) {
+							  PDInheritableResources resources, List<COSBase> arguments)
+			throws CloneNotSupportedException {
 		PDExtendedGraphicsState extGState = getExtGStateFromResources(resources,
 				getLastCOSName(arguments));
-		graphicState.copyPropertiesFromExtGState(extGState);
-		operators.add(new PBOp_gs(arguments, extGState, this.document, this.flavour));
+		if (extGState != null) {
+			getMutableGraphicState().copyPropertiesFromExtGState(extGState);
+		}
+		operators.add(new PBOp_gs(arguments, extGState, this.context, this.document, this.flavour));
 	}
 
 	private static void addInlineImage(List<Operator> operators,
 									   org.apache.pdfbox.contentstream.operator.Operator pdfBoxOperator,
 									   PDInheritableResources resources,
 									   List<COSBase> arguments,
-									   PDDocument document,
+									   DocumentContext context, PDDocument document,
 									   PDFAFlavour flavour) {
 		if (pdfBoxOperator.getImageParameters() != null &&
 				pdfBoxOperator.getImageData() != null) {
 			arguments.add(pdfBoxOperator.getImageParameters());
 			operators.add(new PBOp_BI(new ArrayList<COSBase>()));
-			operators.add(new PBOp_ID(arguments, document, flavour));
+			operators.add(new PBOp_ID(arguments, context, document, flavour));
 			operators.add(new PBOp_EI(arguments,
-					pdfBoxOperator.getImageData(), resources, document, flavour));
+					pdfBoxOperator.getImageData(), resources, context, document, flavour));
 		}
 	}
 
@@ -602,21 +658,31 @@ class OperatorParser {
 		}
 	}
 
-	private void addFontAndColorSpace(PBOpTextShow op) {
+	private void addFontAndColorSpace(PBOpTextShow op) throws CloneNotSupportedException {
 		PBoxPDFont font = (PBoxPDFont) op.getVeraModelFont();
-		this.graphicState.setVeraFont(font);
-		byte[] charCodes = op.getCharCodes();
-		this.graphicState.setCharCodes(charCodes);
+		// char codes are used only by transparency check of type 3 fonts
+		byte[] charCodes = font instanceof PBoxPDType3Font ? op.getCharCodes() : null;
 		PBoxPDColorSpace fillCS = (PBoxPDColorSpace) op.getVeraModelFillColorSpace();
-		this.graphicState.setVeraFillColorSpace(fillCS);
 		PBoxPDColorSpace strokeCS = (PBoxPDColorSpace) op.getVeraModelStrokeColorSpace();
-		this.graphicState.setVeraStrokeColorSpace(strokeCS);
+		if (this.graphicState.getVeraFont() != font || !Arrays.equals(this.graphicState.getCharCodes(), charCodes)
+				|| this.graphicState.getVeraFillColorSpace() != fillCS
+				|| this.graphicState.getVeraStrokeColorSpace() != strokeCS) {
+			GraphicState state = getMutableGraphicState();
+			state.setVeraFont(font);
+			state.setCharCodes(charCodes);
+			state.setVeraFillColorSpace(fillCS);
+			state.setVeraStrokeColorSpace(strokeCS);
+		}
 	}
 
-	private void addColorSpace(PBOpPathPaint op) {
+	private void addColorSpace(PBOpPathPaint op) throws CloneNotSupportedException {
 		PBoxPDColorSpace fillCS = (PBoxPDColorSpace) op.getVeraModelFillCS();
-		this.graphicState.setVeraFillColorSpace(fillCS);
 		PBoxPDColorSpace strokeCS = (PBoxPDColorSpace) op.getVeraModelStrokeCS();
-		this.graphicState.setVeraStrokeColorSpace(strokeCS);
+		if (this.graphicState.getVeraFillColorSpace() != fillCS
+				|| this.graphicState.getVeraStrokeColorSpace() != strokeCS) {
+			GraphicState state = getMutableGraphicState();
+			state.setVeraFillColorSpace(fillCS);
+			state.setVeraStrokeColorSpace(strokeCS);
+		}
 	}
 }
@@ -0,0 +1,122 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.fontbox.cmap.CMap;
+import org.apache.fontbox.cmap.CMapParser;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.IOUtils;
+import org.verapdf.model.tools.ContentDigest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parsed CMaps shared by all fonts and documents validated in the JVM.
+ * Embedded CMaps are keyed by digest of the decoded CMap stream, so large
+ * CMaps embedded into many fonts or documents are parsed once. Predefined
+ * CMaps are keyed by name. Parsed CMaps are not modified by consumers.
+ */
+public final class CMapCache {
+
+	/** Default maximal number of cached embedded CMaps */
+	public static final int DEFAULT_CAPACITY = 64;
+	private static final int MAX_PREDEFINED_CMAPS = 256;
+
+	private static volatile CountingCache<ContentDigest, CMap> embedded =
+			new CountingCache<>(DEFAULT_CAPACITY);
+	private static final CountingCache<String, CMap> PREDEFINED = new CountingCache<>(MAX_PREDEFINED_CMAPS);
+
+	private CMapCache() {
+		// Disable default constructor
+	}
+
+	/**
+	 * Obtains parsed embedded CMap
+	 *
+	 * @param stream CMap stream
+	 * @return parsed CMap
+	 * @throws IOException when stream can not be decoded or parsed
+	 */
+	public static CMap getCMap(COSStream stream) throws IOException {
+		byte[] data;
+		try (InputStream is = stream.getUnfilteredStream()) {
+			data = IOUtils.toByteArray(is);
+		}
+		CountingCache<ContentDigest, CMap> cache = embedded;
+		if (cache == null) {
+			return new CMapParser().parse(new ByteArrayInputStream(data));
+		}
+		ContentDigest digest = ContentDigest.of(data);
+		CMap cMap = cache.get(digest);
+		if (cMap == null) {
+			cMap = new CMapParser().parse(new ByteArrayInputStream(data));
+			cache.put(digest, cMap);
+		}
+		return cMap;
+	}
+
+	/**
+	 * Obtains parsed predefined CMap
+	 *
+	 * @param name name of predefined CMap
+	 * @return parsed CMap
+	 * @throws IOException when there is no such predefined CMap
+	 */
+	public static CMap getPredefinedCMap(String name) throws IOException {
+		CMap cMap = PREDEFINED.get(name);
+		if (cMap == null) {
+			cMap = new CMapParser().parsePredefined(name);
+			PREDEFINED.put(name, cMap);
+		}
+		return cMap;
+	}
+
+	/**
+	 * Sets maximal number of cached embedded CMaps and drops all cached
+	 * embedded CMaps. Least recently used CMaps are evicted.
+	 *
+	 * @param capacity maximal number of cached CMaps, {@code 0} disables
+	 *                 caching of embedded CMaps
+	 */
+	public static void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+		}
+		embedded = capacity == 0 ? null : new CountingCache<ContentDigest, CMap>(capacity);
+	}
+
+	/**
+	 * @return cache of embedded CMaps with its counters, or {@code null} if
+	 *         the cache is disabled
+	 */
+	public static CountingCache<ContentDigest, CMap> getCache() {
+		return embedded;
+	}
+
+	/**
+	 * @return cache of predefined CMaps with its counters
+	 */
+	public static CountingCache<String, CMap> getPredefinedCache() {
+		return PREDEFINED;
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+package org.verapdf.model.impl.pb.containers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of model objects with hit and miss counters. If maximal size is
+ * positive the cache evicts least recently used entries, otherwise it is
+ * unbounded.
+ */
+public class CountingCache<K, V> {
+
+	private final Map<K, V> entries;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * @param maxSize maximal number of cached entries, non positive value
+	 *                means unbounded cache
+	 */
+	public CountingCache(final int maxSize) {
+		this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (maxSize > 0 && size() > maxSize) {
+					CountingCache.this.evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @param key key of the cached object
+	 * @return cached object or null if there is no object for the given key
+	 */
+	public synchronized V get(K key) {
+		V value = this.entries.get(key);
+		if (value != null) {
+			this.hits++;
+		} else {
+			this.misses++;
+		}
+		return value;
+	}
+
+	public synchronized void put(K key, V value) {
+		this.entries.put(key, value);
+	}
+
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * @return number of entries evicted to keep the size of the cache bounded
+	 */
+	public synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	public synchronized void clear() {
+		this.entries.clear();
+		this.hits = 0;
+		this.misses = 0;
+		this.evictions = 0;
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDFontLike;
+import org.apache.pdfbox.preflight.font.container.FontContainer;
+import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.factory.font.FontFactory;
+import org.verapdf.model.impl.pb.external.PBoxJPEG2000;
+import org.verapdf.model.impl.pb.operator.textshow.PBGlyph;
+import org.verapdf.model.impl.pb.pd.images.PBoxPDXForm;
+import org.verapdf.model.pdlayer.PDColorSpace;
+import org.verapdf.model.tools.ContentDigest;
+
+import java.util.*;
+
+/**
+ * Containers shared by all model objects of a single document.
+ * <p>
+ * A context is created by {@link org.verapdf.model.ModelParser} for its document
+ * and passed to model objects and factories along with the document, so several
+ * documents can be validated on the same threads without sharing any state.
+ */
+public class DocumentContext {
+
+	private static final int MAX_CACHED_COLOR_SPACES = 1024;
+	private static final int MAX_CACHED_X_FORMS = 256;
+	private static final int MAX_CACHED_FONT_CONTAINERS = 128;
+	private static final int MAX_CACHED_GLYPHS = 65536;
+	private static final int MAX_CACHED_FONT_WIDTHS = 128;
+	private static final int MAX_CACHED_GLYPH_PRESENCE = 128;
+	private static final int MAX_CACHED_FONTS = 256;
+	private static final int MAX_CACHED_CID_GLYPHS = 128;
+	private static final int MAX_CACHED_TO_UNICODE = 128;
+	private static final int MAX_CACHED_JPEG2000 = 64;
+
+	//PBoxPDSeparation
+	private final SeparationIndex separations = new SeparationIndex();
+
+	//ColorSpaceFactory
+	private final CountingCache<ColorSpaceFactory.CacheKey, PDColorSpace> cachedColorSpaces =
+			new CountingCache<>(MAX_CACHED_COLOR_SPACES);
+
+	private final Set<COSObjectKey> fileSpecificationKeys = new HashSet<>();
+
+	//PBoxPDXForm
+	private final CountingCache<PBoxPDXForm.CacheKey, PBoxPDXForm> cachedXForms = new CountingCache<>(MAX_CACHED_X_FORMS);
+
+	//PBOpTextShow, keyed by identity of the font dictionary
+	private final CountingCache<COSDictionary, FontContainer<? extends PDFontLike>> fontContainers =
+			new CountingCache<>(MAX_CACHED_FONT_CONTAINERS);
+
+	//PBOpTextShow
+	private final CountingCache<PBGlyph.CacheKey, PBGlyph> cachedGlyphs = new CountingCache<>(MAX_CACHED_GLYPHS);
+
+	//PBOpTextShow, keyed by identity of the font dictionary
+	private final CountingCache<COSDictionary, FontWidthsTable> fontWidths =
+			new CountingCache<>(MAX_CACHED_FONT_WIDTHS);
+
+	//PBOpTextShow, tables of GlyphPresenceCache keyed by identity of the font dictionary
+	private final CountingCache<COSDictionary, GlyphPresenceTable> glyphPresence =
+			new CountingCache<>(MAX_CACHED_GLYPH_PRESENCE);
+
+	//FontFactory
+	private final CountingCache<FontFactory.CacheKey, org.verapdf.model.pdlayer.PDFont> cachedFonts =
+			new CountingCache<>(MAX_CACHED_FONTS);
+
+	//PBoxPDCIDFont, keyed by identity of the CIDFont dictionary
+	private final CountingCache<COSDictionary, BitSet> cidGlyphs = new CountingCache<>(MAX_CACHED_CID_GLYPHS);
+
+	//PBOpTextShow, keyed by identity of the font dictionary
+	private final CountingCache<COSDictionary, ToUnicodeTable> toUnicode =
+			new CountingCache<>(MAX_CACHED_TO_UNICODE);
+
+	//PBoxJPEG2000, keyed by digest of the header box
+	private final CountingCache<ContentDigest, PBoxJPEG2000> cachedJPEG2000 =
+			new CountingCache<>(MAX_CACHED_JPEG2000);
+
+	private final XMPCache xmpCache = new XMPCache();
+
+	private volatile boolean exhaustive = true;
+
+	public SeparationIndex getSeparations() {
+		return this.separations;
+	}
+
+	public CountingCache<ColorSpaceFactory.CacheKey, PDColorSpace> getCachedColorSpaces() {
+		return this.cachedColorSpaces;
+	}
+
+	public Set<COSObjectKey> getFileSpecificationKeys() {
+		return this.fileSpecificationKeys;
+	}
+
+	public CountingCache<PBoxPDXForm.CacheKey, PBoxPDXForm> getCachedXForms() {
+		return this.cachedXForms;
+	}
+
+	public CountingCache<COSDictionary, FontContainer<? extends PDFontLike>> getFontContainers() {
+		return this.fontContainers;
+	}
+
+	public CountingCache<PBGlyph.CacheKey, PBGlyph> getCachedGlyphs() {
+		return this.cachedGlyphs;
+	}
+
+	/**
+	 * Obtains width consistency table of the font, creating it on the first call
+	 *
+	 * @param font font dictionary
+	 * @return width consistency table of the font
+	 */
+	public FontWidthsTable getFontWidths(COSDictionary font) {
+		synchronized (this.fontWidths) {
+			FontWidthsTable table = this.fontWidths.get(font);
+			if (table == null) {
+				table = new FontWidthsTable();
+				this.fontWidths.put(font, table);
+			}
+			return table;
+		}
+	}
+
+	public CountingCache<COSDictionary, FontWidthsTable> getCachedFontWidths() {
+		return this.fontWidths;
+	}
+
+	/**
+	 * Obtains unicode table of the font, creating it on the first call
+	 *
+	 * @param font pdfbox font
+	 * @return unicode table of the font
+	 */
+	public ToUnicodeTable getToUnicode(PDFont font) {
+		synchronized (this.toUnicode) {
+			ToUnicodeTable table = this.toUnicode.get(font.getCOSObject());
+			if (table == null) {
+				table = new ToUnicodeTable(font);
+				this.toUnicode.put(font.getCOSObject(), table);
+			}
+			return table;
+		}
+	}
+
+	public CountingCache<COSDictionary, ToUnicodeTable> getCachedToUnicode() {
+		return this.toUnicode;
+	}
+
+	public CountingCache<COSDictionary, GlyphPresenceTable> getGlyphPresence() {
+		return this.glyphPresence;
+	}
+
+	public CountingCache<FontFactory.CacheKey, org.verapdf.model.pdlayer.PDFont> getCachedFonts() {
+		return this.cachedFonts;
+	}
+
+	public CountingCache<COSDictionary, BitSet> getCIDGlyphs() {
+		return this.cidGlyphs;
+	}
+
+	public CountingCache<ContentDigest, PBoxJPEG2000> getCachedJPEG2000() {
+		return this.cachedJPEG2000;
+	}
+
+	public XMPCache getXMPCache() {
+		return this.xmpCache;
+	}
+
+	/**
+	 * @return true if indirect objects are validated on every path leading to them
+	 */
+	public boolean isExhaustive() {
+		return this.exhaustive;
+	}
+
+	/**
+	 * Sets whether indirect dictionaries, streams and arrays reached by
+	 * several paths are validated on each path. By default they are, so errors
+	 * of shared objects are reported for every path leading to them. Value
+	 * {@code false} gives such objects an ID built from their object key, so
+	 * validator checks them once.
+	 *
+	 * @param exhaustive true to validate shared objects on every path
+	 */
+	public void setExhaustive(boolean exhaustive) {
+		this.exhaustive = exhaustive;
+	}
+}
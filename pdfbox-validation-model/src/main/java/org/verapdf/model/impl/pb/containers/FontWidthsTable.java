@@ -0,0 +1,77 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Results of width consistency check for codes of a single font. Widths
+ * from the font dictionary and from the embedded font program are compared
+ * once per code, later checks are bitset lookups. Codes outside of two byte
+ * range are kept in a map, so malformed codes do not grow the bitsets.
+ */
+public class FontWidthsTable {
+
+	// consistent is defined to be a difference of no more than 1/1000 unit.
+	private static final float MAX_WIDTH_DIFFERENCE = 1;
+	private static final int MAX_BITSET_CODE = 0xFFFF;
+
+	private final BitSet checked = new BitSet();
+	private final BitSet consistent = new BitSet();
+	private final Map<Integer, Boolean> otherCodes = new HashMap<>();
+
+	/**
+	 * Checks that width of the glyph in the font dictionary is consistent
+	 * with width in the embedded font program.
+	 *
+	 * @param font      font of the table
+	 * @param glyphCode code of the glyph
+	 * @return true if widths are consistent
+	 * @throws IOException when width can not be obtained from the font program
+	 */
+	public synchronized boolean isConsistent(PDFont font, int glyphCode) throws IOException {
+		if (glyphCode < 0 || glyphCode > MAX_BITSET_CODE) {
+			Integer code = Integer.valueOf(glyphCode);
+			Boolean result = this.otherCodes.get(code);
+			if (result == null) {
+				result = Boolean.valueOf(checkWidth(font, glyphCode));
+				this.otherCodes.put(code, result);
+			}
+			return result.booleanValue();
+		}
+		if (!this.checked.get(glyphCode)) {
+			this.consistent.set(glyphCode, checkWidth(font, glyphCode));
+			this.checked.set(glyphCode);
+		}
+		return this.consistent.get(glyphCode);
+	}
+
+	private static boolean checkWidth(PDFont font, int glyphCode) throws IOException {
+		float expectedWidth = font.getWidth(glyphCode);
+		float foundWidth = font.getWidthFromFont(glyphCode);
+		return Math.abs(foundWidth - expectedWidth) <= MAX_WIDTH_DIFFERENCE;
+	}
+}
@@ -0,0 +1,93 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.verapdf.model.tools.ContentDigest;
+
+/**
+ * Glyph presence tables of embedded font programs shared by all documents
+ * validated in the JVM. Only the tables are shared, font programs are still
+ * parsed by every document. Tables are keyed by digest of the font program
+ * as stored in the file together with font dictionary entries that map codes
+ * to glyphs, so documents embedding the same font subset do not look up its
+ * glyphs in the font program again.
+ * <p>
+ * The cache is disabled by default, see {@link #setCapacity(int)}.
+ */
+public final class GlyphPresenceCache {
+
+	private static volatile CountingCache<ContentDigest, GlyphPresenceTable> tables = null;
+
+	private GlyphPresenceCache() {
+		// Disable default constructor
+	}
+
+	/**
+	 * Enables the cache with the given maximal number of font programs and
+	 * drops all cached tables. Least recently used programs are evicted.
+	 *
+	 * @param capacity maximal number of cached font programs, {@code 0}
+	 *                 disables the cache
+	 */
+	public static void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+		}
+		tables = capacity == 0 ? null : new CountingCache<ContentDigest, GlyphPresenceTable>(capacity);
+	}
+
+	/**
+	 * @return true if font programs are cached
+	 */
+	public static boolean isEnabled() {
+		return tables != null;
+	}
+
+	/**
+	 * Obtains glyph presence table of the font program, creating it on the
+	 * first call
+	 *
+	 * @param digest digest of the font program
+	 * @return glyph presence table, or {@code null} if the cache is disabled
+	 */
+	public static GlyphPresenceTable getGlyphPresence(ContentDigest digest) {
+		CountingCache<ContentDigest, GlyphPresenceTable> cache = tables;
+		if (cache == null) {
+			return null;
+		}
+		synchronized (cache) {
+			GlyphPresenceTable table = cache.get(digest);
+			if (table == null) {
+				table = new GlyphPresenceTable();
+				cache.put(digest, table);
+			}
+			return table;
+		}
+	}
+
+	/**
+	 * @return cache with its hit, miss and eviction counters, or {@code null}
+	 *         if the cache is disabled
+	 */
+	public static CountingCache<ContentDigest, GlyphPresenceTable> getCache() {
+		return tables;
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Presence of glyphs for codes of a font program, as reported by the font
+ * container. Codes are checked in the font program once, later lookups are
+ * bitset lookups. Codes outside of two byte range are kept in a map, so
+ * malformed codes do not grow the bitsets.
+ */
+public class GlyphPresenceTable {
+
+	private static final int MAX_BITSET_CODE = 0xFFFF;
+
+	private final BitSet checked = new BitSet();
+	private final BitSet present = new BitSet();
+	private final Map<Integer, Boolean> otherCodes = new HashMap<>();
+
+	/**
+	 * @param code character code
+	 * @return presence of the glyph for the code, or {@code null} if the
+	 *         code has not been checked yet
+	 */
+	public synchronized Boolean isPresent(int code) {
+		if (code < 0 || code > MAX_BITSET_CODE) {
+			return this.otherCodes.get(Integer.valueOf(code));
+		}
+		if (!this.checked.get(code)) {
+			return null;
+		}
+		return Boolean.valueOf(this.present.get(code));
+	}
+
+	/**
+	 * @param code    character code
+	 * @param present presence of the glyph for the code
+	 */
+	public synchronized void setPresent(int code, boolean present) {
+		if (code < 0 || code > MAX_BITSET_CODE) {
+			this.otherCodes.put(Integer.valueOf(code), Boolean.valueOf(present));
+			return;
+		}
+		this.present.set(code, present);
+		this.checked.set(code);
+	}
+}
@@ -0,0 +1,66 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.verapdf.model.impl.pb.external.PBoxJPEG2000;
+import org.verapdf.model.tools.ContentDigest;
+
+/**
+ * Analysed header boxes of JPEG2000 images shared by all documents validated
+ * in the JVM. Headers are keyed by digest of the header box content, so the
+ * same image embedded into many documents is analysed once. Cached headers
+ * do not depend on the document, colour spaces of images are created for
+ * each document separately.
+ */
+public final class JPEG2000HeaderCache {
+
+	/** Default maximal number of cached headers */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	private static volatile CountingCache<ContentDigest, PBoxJPEG2000.Header> headers =
+			new CountingCache<>(DEFAULT_CAPACITY);
+
+	private JPEG2000HeaderCache() {
+		// Disable default constructor
+	}
+
+	/**
+	 * Sets maximal number of cached headers and drops all cached headers.
+	 * Least recently used headers are evicted.
+	 *
+	 * @param capacity maximal number of cached headers, {@code 0} disables
+	 *                 the cache
+	 */
+	public static void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative, but was " + capacity);
+		}
+		headers = capacity == 0 ? null : new CountingCache<ContentDigest, PBoxJPEG2000.Header>(capacity);
+	}
+
+	/**
+	 * @return cache with its hit, miss and eviction counters, or {@code null}
+	 *         if the cache is disabled
+	 */
+	public static CountingCache<ContentDigest, PBoxJPEG2000.Header> getCache() {
+		return headers;
+	}
+}
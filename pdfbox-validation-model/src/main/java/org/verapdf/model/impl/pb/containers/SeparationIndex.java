@@ -0,0 +1,135 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSObject;
+import org.verapdf.model.tools.ContentDigest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Index of Separation color spaces of a document by colorant name. Alternate
+ * color space and tint transform of every distinct color space array are
+ * reduced once to a fingerprint, and every colorant keeps the fingerprint of
+ * its first color space, so consistency of a colorant is a single lookup.
+ * The first inconsistent pair of color spaces is recorded per colorant.
+ */
+public class SeparationIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(SeparationIndex.class);
+
+	private static final int ALTERNATE_POSITION = 2;
+	private static final int TINT_TRANSFORM_POSITION = 3;
+
+	private final Map<COSArray, Object> fingerprints = new IdentityHashMap<>();
+	private final Map<String, Colorant> colorants = new HashMap<>();
+
+	/**
+	 * Registers Separation color space of the document
+	 *
+	 * @param colorantName name of the colorant
+	 * @param colorSpace   Separation color space array
+	 * @param id           id of the model object of the color space
+	 */
+	public synchronized void register(String colorantName, COSArray colorSpace, String id) {
+		Object fingerprint = this.fingerprints.get(colorSpace);
+		if (fingerprint == null) {
+			fingerprint = getFingerprint(colorSpace);
+			this.fingerprints.put(colorSpace, fingerprint);
+		}
+		Colorant colorant = this.colorants.get(colorantName);
+		if (colorant == null) {
+			this.colorants.put(colorantName, new Colorant(fingerprint, id));
+		} else if (colorant.inconsistency == null && !colorant.fingerprint.equals(fingerprint)) {
+			colorant.inconsistency = new String[] {colorant.id, id};
+			LOGGER.debug("Separation color spaces " + colorant.id + " and " + id + " of colorant " + colorantName
+					+ " have different alternate color space or tint transform");
+		}
+	}
+
+	/**
+	 * @param colorantName name of the colorant
+	 * @return true if all registered color spaces of the colorant have the
+	 *         same alternate color space and tint transform
+	 */
+	public synchronized boolean isConsistent(String colorantName) {
+		Colorant colorant = this.colorants.get(colorantName);
+		return colorant == null || colorant.inconsistency == null;
+	}
+
+	/**
+	 * @param colorantName name of the colorant
+	 * @return ids of the first two inconsistent color spaces of the colorant,
+	 *         or {@code null} if the colorant is consistent
+	 */
+	public synchronized String[] getInconsistency(String colorantName) {
+		Colorant colorant = this.colorants.get(colorantName);
+		return colorant == null || colorant.inconsistency == null ? null : colorant.inconsistency.clone();
+	}
+
+	/**
+	 * @return number of distinct color space arrays reduced to fingerprints
+	 */
+	public synchronized int getFingerprintsCount() {
+		return this.fingerprints.size();
+	}
+
+	private static Object getFingerprint(COSArray colorSpace) {
+		COSBase alternate = getElement(colorSpace, ALTERNATE_POSITION);
+		COSBase tintTransform = getElement(colorSpace, TINT_TRANSFORM_POSITION);
+		try {
+			return ContentDigest.of(alternate, tintTransform);
+		} catch (IOException e) {
+			LOGGER.debug("Can not compute digest of separation color space, comparing objects", e);
+			return Arrays.asList(alternate, tintTransform);
+		}
+	}
+
+	private static COSBase getElement(COSArray array, int position) {
+		if (array.size() <= position) {
+			return null;
+		}
+		COSBase object = array.get(position);
+		if (object instanceof COSObject) {
+			return ((COSObject) object).getObject();
+		}
+		return object;
+	}
+
+	private static final class Colorant {
+
+		private final Object fingerprint;
+		private final String id;
+		private String[] inconsistency;
+
+		Colorant(Object fingerprint, String id) {
+			this.fingerprint = fingerprint;
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
+
+import java.io.IOException;
+
+/**
+ * Unicode values and glyph names of codes of a single font. Entries are
+ * computed once per code through the ToUnicode CMap, encoding and glyph list
+ * of the font, and shared by all glyphs of the font. Codes of simple fonts
+ * are kept in a dense array, codes of other fonts in an open addressing map.
+ */
+public class ToUnicodeTable {
+
+	private static final Logger LOGGER = Logger.getLogger(ToUnicodeTable.class);
+
+	private static final String NOTDEF = ".notdef";
+	private static final int SIMPLE_FONT_CODES = 256;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private static final int[] UNICODE_PRIVATE_USE_AREA_ARRAY = {0xE000, 0xF8FF, 0xF0000, 0xFFFFD, 0x100000, 0x10FFFD};
+
+	private final boolean simple;
+	private Entry[] entries;
+	private int[] codes;
+	private int size = 0;
+
+	/**
+	 * @param font font of the table
+	 */
+	public ToUnicodeTable(PDFont font) {
+		this.simple = font instanceof PDSimpleFont;
+		this.entries = new Entry[this.simple ? SIMPLE_FONT_CODES : INITIAL_CAPACITY];
+		this.codes = this.simple ? null : new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Obtains entry of the code, computing it on the first call
+	 *
+	 * @param font      font of the table
+	 * @param glyphCode code of the glyph
+	 * @return entry of the code
+	 */
+	public synchronized Entry getEntry(PDFont font, int glyphCode) {
+		if (this.simple && glyphCode >= 0 && glyphCode < SIMPLE_FONT_CODES) {
+			Entry entry = this.entries[glyphCode];
+			if (entry == null) {
+				entry = createEntry(font, glyphCode);
+				this.entries[glyphCode] = entry;
+			}
+			return entry;
+		} else if (this.simple) {
+			return createEntry(font, glyphCode);
+		}
+		int index = indexOf(this.codes, this.entries, glyphCode);
+		Entry entry = this.entries[index];
+		if (entry == null) {
+			entry = createEntry(font, glyphCode);
+			this.codes[index] = glyphCode;
+			this.entries[index] = entry;
+			if (++this.size * 2 > this.entries.length) {
+				grow();
+			}
+		}
+		return entry;
+	}
+
+	private void grow() {
+		int[] oldCodes = this.codes;
+		Entry[] oldEntries = this.entries;
+		this.codes = new int[oldCodes.length * 2];
+		this.entries = new Entry[oldEntries.length * 2];
+		for (int i = 0; i < oldEntries.length; ++i) {
+			if (oldEntries[i] != null) {
+				int index = indexOf(this.codes, this.entries, oldCodes[i]);
+				this.codes[index] = oldCodes[i];
+				this.entries[index] = oldEntries[i];
+			}
+		}
+	}
+
+	private static int indexOf(int[] codes, Entry[] entries, int code) {
+		int mask = entries.length - 1;
+		// Fibonacci hashing: the top log2(capacity) bits of the product are
+		// the index, so all bits of the code take part at every capacity
+		int index = (code * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mask) & mask;
+		while (entries[index] != null && codes[index] != code) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	/**
+	 * Computes entry of the code without a table
+	 *
+	 * @param font      font of the glyph
+	 * @param glyphCode code of the glyph
+	 * @return entry of the code
+	 */
+	public static Entry createEntry(PDFont font, int glyphCode) {
+		return new Entry(getName(font, glyphCode), getToUnicode(font, glyphCode));
+	}
+
+	private static String getName(PDFont font, int glyphCode) {
+		if (font instanceof PDSimpleFont) {
+			Encoding encoding = ((PDSimpleFont) font).getEncoding();
+			return encoding == null ? null : encoding.getName(glyphCode);
+		} else if (font instanceof PDType0Font){
+			try {
+				if (((PDType0Font) font).codeToGID(glyphCode) == 0) {
+					return NOTDEF;
+				}
+			} catch (IOException e) {
+				LOGGER.debug("Can't convert code to glyph",e);
+			}
+		}
+		return null;
+	}
+
+	private static String getToUnicode(PDFont font, int glyphCode) {
+		try {
+			return font.toUnicode(glyphCode);
+		} catch (IOException e) {
+			LOGGER.debug(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Unicode value and glyph name of a single code
+	 */
+	public static final class Entry {
+
+		private final String name;
+		private final String toUnicode;
+		private final boolean unicodePUA;
+
+		Entry(String name, String toUnicode) {
+			this.name = name;
+			this.toUnicode = toUnicode;
+			this.unicodePUA = isPrivateUse(toUnicode);
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public String getToUnicode() {
+			return this.toUnicode;
+		}
+
+		/**
+		 * @return true if unicode value of the code starts with a private use area code point
+		 */
+		public boolean isUnicodePUA() {
+			return this.unicodePUA;
+		}
+
+		/**
+		 * @return true if the code is mapped to .notdef glyph
+		 */
+		public boolean isNotdef() {
+			return NOTDEF.equals(this.name);
+		}
+
+		private static boolean isPrivateUse(String toUnicode) {
+			if (toUnicode == null || toUnicode.isEmpty()) {
+				return false;
+			}
+			int unicode = toUnicode.codePointAt(0);
+			return (unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[0] &&
+					unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[1]) ||
+					(unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[2] &&
+							unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[3]) ||
+					(unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[4] &&
+							unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[5]);
+		}
+	}
+}
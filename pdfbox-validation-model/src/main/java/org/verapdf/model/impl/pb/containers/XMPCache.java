@@ -0,0 +1,163 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import com.adobe.xmp.XMPException;
+import com.adobe.xmp.impl.VeraPDFMeta;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parsed XMP metadata streams of a document, keyed by object key of the
+ * stream. Every stream is decoded and parsed once, and all read-only consumers
+ * get the same {@link VeraPDFMeta} object. Consumers that modify metadata,
+ * e.g. the metadata fixer, obtain a private copy parsed from the cached
+ * decoded bytes. Decoding errors and invalid XMP are cached as well and
+ * thrown to every consumer.
+ */
+public class XMPCache {
+
+	private final Map<COSObjectKey, Entry> entries = new HashMap<>();
+
+	private long parseTime = 0;
+	private int parsedStreams = 0;
+	private int hits = 0;
+
+	/**
+	 * Obtains parsed metadata of the stream, shared by all consumers of the
+	 * document. Returned object must not be modified.
+	 *
+	 * @param stream metadata stream
+	 * @return parsed metadata
+	 * @throws IOException  when stream can not be decoded
+	 * @throws XMPException when stream contains invalid XMP
+	 */
+	public synchronized VeraPDFMeta getMetadata(COSStream stream) throws IOException, XMPException {
+		return getEntry(stream).getMetadata();
+	}
+
+	/**
+	 * Obtains a private copy of parsed metadata of the stream, which can be
+	 * modified by the caller. The stream is not decoded again.
+	 *
+	 * @param stream metadata stream
+	 * @return new parsed metadata object
+	 * @throws IOException  when stream can not be decoded
+	 * @throws XMPException when stream contains invalid XMP
+	 */
+	public synchronized VeraPDFMeta getMetadataCopy(COSStream stream) throws IOException, XMPException {
+		Entry entry = getEntry(stream);
+		entry.getMetadata();
+		return parse(entry.data);
+	}
+
+	private Entry getEntry(COSStream stream) {
+		COSObjectKey key = stream.getKey();
+		if (key == null) {
+			return createEntry(stream);
+		}
+		Entry entry = this.entries.get(key);
+		if (entry == null) {
+			entry = createEntry(stream);
+			this.entries.put(key, entry);
+		} else {
+			++this.hits;
+		}
+		return entry;
+	}
+
+	private Entry createEntry(COSStream stream) {
+		byte[] data;
+		try (InputStream is = stream.getUnfilteredStream()) {
+			data = IOUtils.toByteArray(is);
+		} catch (IOException e) {
+			return new Entry(null, null, e, null);
+		}
+		try {
+			return new Entry(data, parse(data), null, null);
+		} catch (XMPException e) {
+			return new Entry(data, null, null, e);
+		}
+	}
+
+	private VeraPDFMeta parse(byte[] data) throws XMPException {
+		long start = System.nanoTime();
+		try {
+			return VeraPDFMeta.parse(new ByteArrayInputStream(data));
+		} finally {
+			this.parseTime += System.nanoTime() - start;
+			++this.parsedStreams;
+		}
+	}
+
+	/**
+	 * @return total time spent on parsing of decoded metadata streams, in nanoseconds
+	 */
+	public synchronized long getParseTime() {
+		return this.parseTime;
+	}
+
+	/**
+	 * @return number of parsed metadata streams, including private copies
+	 */
+	public synchronized int getParsedStreams() {
+		return this.parsedStreams;
+	}
+
+	/**
+	 * @return number of requests served without decoding and parsing
+	 */
+	public synchronized int getHits() {
+		return this.hits;
+	}
+
+	private static final class Entry {
+
+		private final byte[] data;
+		private final VeraPDFMeta metadata;
+		private final IOException ioException;
+		private final XMPException xmpException;
+
+		Entry(byte[] data, VeraPDFMeta metadata, IOException ioException, XMPException xmpException) {
+			this.data = data;
+			this.metadata = metadata;
+			this.ioException = ioException;
+			this.xmpException = xmpException;
+		}
+
+		VeraPDFMeta getMetadata() throws IOException, XMPException {
+			if (this.ioException != null) {
+				throw this.ioException;
+			}
+			if (this.xmpException != null) {
+				throw this.xmpException;
+			}
+			return this.metadata;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosArray;
 import org.verapdf.model.coslayer.CosObject;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.util.ArrayList;
@@ -47,14 +48,15 @@ public class PBCosArray extends PBCosObject implements CosArray {
     private final int size;
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
     /**
      * Default constructor
      * @param array pdfbox COSArray
      */
-    public PBCosArray(COSArray array, PDDocument document, PDFAFlavour flavour) {
-        this(array, COS_ARRAY_TYPE, document, flavour);
+    public PBCosArray(COSArray array, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        this(array, COS_ARRAY_TYPE, context, document, flavour);
     }
 
 	/**
@@ -63,10 +65,11 @@ public class PBCosArray extends PBCosObject implements CosArray {
 	 * @param array pdfbox COSArray
 	 * @param type type of object
 	 */
-	public PBCosArray(COSArray array, String type, PDDocument document, PDFAFlavour flavour) {
+	public PBCosArray(COSArray array, String type, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(array, type);
 		this.size = array.size();
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
 	}
 
@@ -97,7 +100,7 @@ public class PBCosArray extends PBCosObject implements CosArray {
         List<CosObject> list = new ArrayList<>(this.getsize().intValue());
         for (COSBase base : (COSArray) this.baseObject) {
             if (base != null) {
-                list.add(getFromValue(base, this.document, this.flavour));
+                list.add(getFromValue(base, this.context, this.document, this.flavour));
             }
         }
         return Collections.unmodifiableList(list);
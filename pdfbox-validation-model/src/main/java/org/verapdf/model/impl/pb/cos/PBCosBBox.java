@@ -26,6 +26,7 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSNumber;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.coslayer.CosBBox;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 /**
@@ -48,8 +49,8 @@ public class PBCosBBox extends PBCosArray implements CosBBox {
 	 *
 	 * @param array pdfbox COSArray
 	 */
-	public PBCosBBox(COSArray array, PDDocument document, PDFAFlavour flavour) {
-		super(array, COS_BBOX_TYPE, document, flavour);
+	public PBCosBBox(COSArray array, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		super(array, COS_BBOX_TYPE, context, document, flavour);
 	}
 
 	/**
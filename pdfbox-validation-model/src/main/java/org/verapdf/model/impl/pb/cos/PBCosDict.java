@@ -29,6 +29,7 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDict;
 import org.verapdf.model.coslayer.CosName;
 import org.verapdf.model.coslayer.CosObject;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDMetadata;
 import org.verapdf.model.pdlayer.PDMetadata;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -54,6 +55,7 @@ public class PBCosDict extends PBCosObject implements CosDict {
     private final int size;
 
     protected final PDDocument document;
+    protected final DocumentContext context;
     protected final PDFAFlavour flavour;
 
     /**
@@ -61,8 +63,8 @@ public class PBCosDict extends PBCosObject implements CosDict {
      *
      * @param dictionary pdfbox COSDictionary
      */
-    public PBCosDict(COSDictionary dictionary, PDDocument document, PDFAFlavour flavour) {
-        this(dictionary, COS_DICT_TYPE, document, flavour);
+    public PBCosDict(COSDictionary dictionary, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        this(dictionary, COS_DICT_TYPE, context, document, flavour);
     }
 
     /**
@@ -71,10 +73,12 @@ public class PBCosDict extends PBCosObject implements CosDict {
      * @param dictionary pdfbox COSDictionary
      * @param type       type of child class
      */
-    protected PBCosDict(COSDictionary dictionary, final String type, final PDDocument document, final PDFAFlavour flavour) {
+    protected PBCosDict(COSDictionary dictionary, final String type, final DocumentContext context,
+                        final PDDocument document, final PDFAFlavour flavour) {
         super(dictionary, type);
         this.size = dictionary.size();
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -109,7 +113,7 @@ public class PBCosDict extends PBCosObject implements CosDict {
         List<CosName> list = new ArrayList<>(dictionary.size());
         for (COSName key : dictionary.keySet()) {
             if (key != null) {
-                list.add((CosName) getFromValue(key, this.document, this.flavour));
+                list.add((CosName) getFromValue(key, this.context, this.document, this.flavour));
             }
         }
         return Collections.unmodifiableList(list);
@@ -123,7 +127,7 @@ public class PBCosDict extends PBCosObject implements CosDict {
         List<CosObject> list = new ArrayList<>(dictionary.size());
         for (COSBase value : dictionary.getValues()) {
             if (value != null) {
-                list.add(getFromValue(value, this.document, this.flavour));
+                list.add(getFromValue(value, this.context, this.document, this.flavour));
             }
         }
         return Collections.unmodifiableList(list);
@@ -142,7 +146,7 @@ public class PBCosDict extends PBCosObject implements CosDict {
             ArrayList<PDMetadata> pdMetadatas = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
             org.apache.pdfbox.pdmodel.common.PDMetadata md = new org.apache.pdfbox.pdmodel.common.PDMetadata(
                     (COSStream) meta);
-            pdMetadatas.add(new PBoxPDMetadata(md, Boolean.FALSE, document, flavour));
+            pdMetadatas.add(new PBoxPDMetadata(md, Boolean.FALSE, context, document, flavour));
             return pdMetadatas;
         }
 
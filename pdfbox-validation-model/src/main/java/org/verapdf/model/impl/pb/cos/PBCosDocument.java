@@ -32,6 +32,8 @@ import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosTrailer;
 import org.verapdf.model.coslayer.CosXRef;
 import org.verapdf.model.impl.pb.pd.PBoxPDDocument;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.containers.XMPCache;
 import org.verapdf.model.tools.FileSpecificationKeysHelper;
 import org.verapdf.model.tools.XMPChecker;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -62,6 +64,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	private final PDFAFlavour flavour;
 
 	private PDDocument pdDocument;
+	private DocumentContext context;
 
 	private final long indirectObjectCount;
 	private final float version;
@@ -84,14 +87,17 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	/**
 	 * Default constructor
 	 * 
+	 * @param context
+	 *            containers shared by model objects of the document
 	 * @param pdDocument
 	 *            pdfbox PDDocument
 	 */
-	public PBCosDocument(PDDocument pdDocument, PDFAFlavour flavour) {
-		this(pdDocument.getDocument(), flavour);
+	public PBCosDocument(DocumentContext context, PDDocument pdDocument, PDFAFlavour flavour) {
+		this(pdDocument.getDocument(), flavour, context.getXMPCache());
 		this.pdDocument = pdDocument;
+		this.context = context;
 		if (flavour.getPart() == PDFAFlavour.Specification.ISO_19005_3) {
-			FileSpecificationKeysHelper.registerFileSpecificationKeys(pdDocument);
+			FileSpecificationKeysHelper.registerFileSpecificationKeys(pdDocument, context);
 		}
 	}
 
@@ -102,6 +108,10 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	 *            pdfbox COSDocument
 	 */
 	public PBCosDocument(COSDocument cosDocument, PDFAFlavour flavour) {
+		this(cosDocument, flavour, new XMPCache());
+	}
+
+	private PBCosDocument(COSDocument cosDocument, PDFAFlavour flavour, XMPCache xmpCache) {
 		super(cosDocument, COS_DOCUMENT_TYPE);
 		this.catalog = this.getCatalog();
 		this.flavour = flavour;
@@ -129,7 +139,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 			this.firstPageID = null;
 		}
 		this.isLinearised = cosDocument.getTrailer() != cosDocument.getLastTrailer() && cosDocument.isLinearized();
-		this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP(cosDocument);
+		this.doesInfoMatchXMP = XMPChecker.doesInfoMatchXMP(cosDocument, xmpCache);
 		this.needsRendering = this.getNeedsRenderingValue();
 	}
 
@@ -357,7 +367,8 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 				final Set<Map.Entry<String, PDComplexFileSpecification>> entries = names.entrySet();
 				for (Map.Entry<String, PDComplexFileSpecification> entry : entries) {
 					files.add(
-							new PBCosFileSpecification(entry.getValue().getCOSObject(), this.pdDocument, this.flavour));
+							new PBCosFileSpecification(entry.getValue().getCOSObject(), this.context,
+									this.pdDocument, this.flavour));
 				}
 			}
 			if (node.getKids() != null) {
@@ -376,20 +387,16 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	private List<CosTrailer> getTrailer() {
 		COSDocument cosDocument = (COSDocument) this.baseObject;
 		List<CosTrailer> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-		list.add(new PBCosTrailer(cosDocument.getTrailer(), this.pdDocument, this.flavour));
+		list.add(new PBCosTrailer(cosDocument.getTrailer(), this.context, this.pdDocument, this.flavour));
 		return Collections.unmodifiableList(list);
 	}
 
 	/**
-	 * all indirect objects referred from the xref table
+	 * all indirect objects referred from the xref table, wrapped on access
 	 */
 	private List<CosIndirect> getIndirectObjects() {
 		List<COSObject> objects = ((COSDocument) this.baseObject).getObjects();
-		List<CosIndirect> list = new ArrayList<>(objects.size());
-		for (COSObject object : objects) {
-			list.add(new PBCosIndirect(object, this.pdDocument, this.flavour));
-		}
-		return Collections.unmodifiableList(list);
+		return new PBCosIndirectList(objects, this.context, this.pdDocument, this.flavour);
 	}
 
 	/**
@@ -398,7 +405,7 @@ public class PBCosDocument extends PBCosObject implements CosDocument {
 	private List<org.verapdf.model.pdlayer.PDDocument> getDocument() {
 		if (pdDocument != null) {
 			List<org.verapdf.model.pdlayer.PDDocument> document = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			document.add(new PBoxPDDocument(pdDocument, flavour));
+			document.add(new PBoxPDDocument(context, pdDocument, flavour));
 			return Collections.unmodifiableList(document);
 		}
 		return Collections.emptyList();
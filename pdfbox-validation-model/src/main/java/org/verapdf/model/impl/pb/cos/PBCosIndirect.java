@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosObject;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.tools.IDGenerator;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -47,28 +48,23 @@ public class PBCosIndirect extends PBCosObject implements CosIndirect {
 
     private final boolean isSpacingPDFACompliant;
 
-    private final String id;
-
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
     /**
      * Default constructor
      * @param indirectObject pdfbox COSObject
      */
-    public PBCosIndirect(COSObject indirectObject, PDDocument document, PDFAFlavour flavour) {
+    public PBCosIndirect(COSObject indirectObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(indirectObject, COS_INDIRECT_TYPE);
         this.isSpacingPDFACompliant = getspacingCompliesPDFA(indirectObject);
 		this.id = IDGenerator.generateID(indirectObject);
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
-	@Override
-	public String getID() {
-		return id;
-	}
-
     @Override
     public List<? extends Object> getLinkedObjects(
 			String link) {
@@ -85,7 +81,8 @@ public class PBCosIndirect extends PBCosObject implements CosIndirect {
     private List<CosObject> parseDirectObject() {
         List<CosObject> list = new ArrayList<>();
         COSBase base = ((COSObject) baseObject).getObject();
-        list.add(base != null ? getFromValue(base, this.document, this.flavour) : PBCosNull.getInstance());
+        list.add(base != null ? getFromValue(base, this.context, this.document, this.flavour)
+                : PBCosNull.getInstance());
         return Collections.unmodifiableList(list);
     }
 
@@ -0,0 +1,62 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.cos;
+
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.coslayer.CosIndirect;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.pdfa.flavours.PDFAFlavour;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of indirect objects of the document. Model objects are
+ * created on every access to their index and are not kept by the list, so
+ * they are collected once the validator has visited them. Validator tells
+ * repeated objects apart by their ID, not by identity.
+ */
+final class PBCosIndirectList extends AbstractList<CosIndirect> implements RandomAccess {
+
+	private final List<COSObject> objects;
+	private final PDDocument document;
+	private final DocumentContext context;
+	private final PDFAFlavour flavour;
+
+	PBCosIndirectList(List<COSObject> objects, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		this.objects = objects;
+		this.document = document;
+		this.context = context;
+		this.flavour = flavour;
+	}
+
+	@Override
+	public CosIndirect get(int index) {
+		return new PBCosIndirect(this.objects.get(index), this.context, this.document, this.flavour);
+	}
+
+	@Override
+	public int size() {
+		return this.objects.size();
+	}
+}
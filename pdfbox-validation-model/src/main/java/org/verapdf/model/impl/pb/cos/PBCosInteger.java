@@ -36,6 +36,17 @@ public class PBCosInteger extends PBCosNumber implements CosInteger {
     /** Type name for PBCosInteger */
     public static final String COS_INTEGER_TYPE = "CosInteger";
 
+    private static final int LOW = -100;
+    private static final int HIGH = 256;
+
+    private static final PBCosInteger[] SMALL_INTEGERS = new PBCosInteger[HIGH - LOW + 1];
+
+    static {
+        for (int i = LOW; i <= HIGH; ++i) {
+            SMALL_INTEGERS[i - LOW] = new PBCosInteger(COSInteger.get(i));
+        }
+    }
+
     /**
      * Default constructor
      * @param value pdfbox COSInteger
@@ -43,4 +54,18 @@ public class PBCosInteger extends PBCosNumber implements CosInteger {
     public PBCosInteger(COSInteger value) {
         super(value, COS_INTEGER_TYPE);
     }
+
+    /**
+     * This method will obtain CosInteger object instance from pdfbox COSInteger.
+     * Instances for values from -100 to 256 are shared
+     * @param value pdfbox COSInteger
+     * @return instance of CosInteger
+     */
+    public static PBCosInteger valueOf(COSInteger value) {
+        long longValue = value.longValue();
+        if (longValue >= LOW && longValue <= HIGH) {
+            return SMALL_INTEGERS[(int) longValue - LOW];
+        }
+        return new PBCosInteger(value);
+    }
 }
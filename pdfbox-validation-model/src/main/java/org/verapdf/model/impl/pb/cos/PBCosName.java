@@ -22,6 +22,7 @@ package org.verapdf.model.impl.pb.cos;
 
 import org.apache.pdfbox.cos.COSName;
 import org.verapdf.model.coslayer.CosName;
+import org.verapdf.model.impl.pb.containers.CountingCache;
 
 /**
  * Current class is representation of CosName interface of abstract model. This
@@ -34,6 +35,10 @@ public class PBCosName extends PBCosObject implements CosName {
     /** Type name for PBCosName */
     public static final String COS_NAME_TYPE = "CosName";
 
+    private static final int MAX_CACHED_NAMES = 4096;
+
+    private static final CountingCache<COSName, PBCosName> NAMES = new CountingCache<>(MAX_CACHED_NAMES);
+
     private final String internalRepresentation;
 
     /**
@@ -54,6 +59,21 @@ public class PBCosName extends PBCosObject implements CosName {
         this.internalRepresentation = cosName.getName();
     }
 
+    /**
+     * This method will obtain CosName object instance from pdfbox COSName.
+     * Instances are shared, as pdfbox COSName objects are interned
+     * @param name pdfbox COSName
+     * @return instance of CosName
+     */
+    public static PBCosName valueOf(COSName name) {
+        PBCosName result = NAMES.get(name);
+        if (result == null) {
+            result = new PBCosName(name);
+            NAMES.put(name, result);
+        }
+        return result;
+    }
+
     /**
      * Get Unicode string representation of the Name object after applying
      * escape mechanism and converting to Unicode using Utf8 encoding
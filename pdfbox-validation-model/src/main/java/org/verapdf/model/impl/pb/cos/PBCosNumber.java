@@ -48,9 +48,9 @@ public abstract class PBCosNumber extends PBCosObject implements CosNumber {
 
     public static PBCosNumber fromPDFBoxNumber(COSBase number) {
         if (number instanceof COSInteger) {
-            return new PBCosInteger((COSInteger) number);
+            return PBCosInteger.valueOf((COSInteger) number);
         } else if (number instanceof COSFloat) {
-            return new PBCosReal((COSFloat) number);
+            return PBCosReal.valueOf((COSFloat) number);
         }
         return null;
     }
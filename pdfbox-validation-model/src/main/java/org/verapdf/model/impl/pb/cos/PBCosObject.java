@@ -21,11 +21,16 @@
 package org.verapdf.model.impl.pb.cos;
 
 import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.GenericModelObject;
 import org.verapdf.model.coslayer.CosObject;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.tools.IDGenerator;
 import org.verapdf.model.visitor.cos.pb.PBCosVisitor;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -46,6 +51,8 @@ public class PBCosObject extends GenericModelObject implements CosObject {
 
 	protected final COSBase baseObject;
 
+	protected String id = null;
+
     protected PBCosObject(final COSBase baseObject, final String type) {
 		super(type);
         this.baseObject = baseObject;
@@ -54,6 +61,11 @@ public class PBCosObject extends GenericModelObject implements CosObject {
     /**
      * Transform object of pdf box to corresponding object of abstract model
      * implementation. For transforming using {@code PBCosVisitor}.
+     * <p>
+     * Unless the context is exhaustive, dictionaries, streams and arrays that
+     * are indirect objects get an ID built from their object key, so validator
+     * checks them once however many paths lead to them, see
+     * {@link DocumentContext#setExhaustive(boolean)}.
      *
      * @param base
      *            the base object that all objects in the PDF document will
@@ -61,15 +73,22 @@ public class PBCosObject extends GenericModelObject implements CosObject {
      * @return object of abstract model implementation, transformed from
      *         {@code base}
      */
-    public static CosObject getFromValue(COSBase base, PDDocument document, PDFAFlavour flavour) {
+    public static CosObject getFromValue(COSBase base, DocumentContext context, PDDocument document,
+                                         PDFAFlavour flavour) {
         try {
             if (base != null) {
-                PBCosVisitor visitor = PBCosVisitor.getInstance(document, flavour);
+                PBCosVisitor visitor = PBCosVisitor.getInstance(context, document, flavour);
                 if (base instanceof COSObject) {
                     return (CosObject) PBCosVisitor
-                            .visitFromObject((COSObject) base, document, flavour);
+                            .visitFromObject((COSObject) base, context, document, flavour);
+                }
+                CosObject result = (CosObject) base.accept(visitor);
+                COSObjectKey key = base.getKey();
+                if (key != null && !context.isExhaustive()
+                        && (base instanceof COSDictionary || base instanceof COSArray)) {
+                    ((PBCosObject) result).id = IDGenerator.generateID(key, result.getObjectType());
                 }
-                return (CosObject) base.accept(visitor);
+                return result;
             }
         } catch (IOException e) {
             LOGGER.debug(
@@ -78,4 +97,9 @@ public class PBCosObject extends GenericModelObject implements CosObject {
         }
         return null;
     }
+
+    @Override
+    public String getID() {
+        return this.id;
+    }
 }
@@ -22,6 +22,7 @@ package org.verapdf.model.impl.pb.cos;
 
 import org.apache.pdfbox.cos.COSNumber;
 import org.verapdf.model.coslayer.CosReal;
+import org.verapdf.model.impl.pb.containers.CountingCache;
 
 /**
  * Current class is representation of CosReal interface of abstract model. All
@@ -35,6 +36,10 @@ public class PBCosReal extends PBCosNumber implements CosReal {
     /** Type name for PBCosReal */
     public static final String COS_REAL_TYPE = "CosReal";
 
+    private static final int MAX_CACHED_REALS = 4096;
+
+    private static final CountingCache<Double, PBCosReal> REALS = new CountingCache<>(MAX_CACHED_REALS);
+
     /**
      * Default constructor
      * @param value pdfbox COSNumber
@@ -42,4 +47,20 @@ public class PBCosReal extends PBCosNumber implements CosReal {
     public PBCosReal(COSNumber value) {
         super(value, COS_REAL_TYPE);
     }
+
+    /**
+     * This method will obtain CosReal object instance from pdfbox COSNumber.
+     * Instances of recently used values are shared
+     * @param value pdfbox COSNumber
+     * @return instance of CosReal
+     */
+    public static PBCosReal valueOf(COSNumber value) {
+        Double key = Double.valueOf(value.doubleValue());
+        PBCosReal result = REALS.get(key);
+        if (result == null) {
+            result = new PBCosReal(value);
+            REALS.put(key, result);
+        }
+        return result;
+    }
 }
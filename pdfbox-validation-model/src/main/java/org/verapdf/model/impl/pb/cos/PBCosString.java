@@ -22,6 +22,7 @@ package org.verapdf.model.impl.pb.cos;
 
 import org.apache.pdfbox.cos.COSString;
 import org.verapdf.model.coslayer.CosString;
+import org.verapdf.model.impl.pb.containers.CountingCache;
 
 /**
  * Current class is representation of CosString interface of abstract model.
@@ -33,6 +34,12 @@ public class PBCosString extends PBCosObject implements CosString {
 
     /** Type name for PBCosString */
     public static final String COS_STRING_TYPE = "CosString";
+
+    private static final int MAX_CACHED_STRINGS = 4096;
+    private static final int MAX_CACHED_STRING_LENGTH = 256;
+
+    private static final CountingCache<CacheKey, PBCosString> STRINGS = new CountingCache<>(MAX_CACHED_STRINGS);
+
     private final String value;
     private final boolean isHex;
     private final boolean containsOnlyHex;
@@ -54,6 +61,26 @@ public class PBCosString extends PBCosObject implements CosString {
         this.hexCount = cosString.getHexCount();
     }
 
+    /**
+     * This method will obtain CosString object instance from pdfbox COSString.
+     * Instances of recently used short strings are shared
+     * @param cosString pdfbox COSString
+     * @return instance of CosString
+     */
+    public static PBCosString valueOf(COSString cosString) {
+        if (cosString.getBytes().length > MAX_CACHED_STRING_LENGTH) {
+            return new PBCosString(cosString);
+        }
+        CacheKey key = new CacheKey(cosString.getASCII(), cosString.isHex(),
+                cosString.isContainsOnlyHex(), cosString.getHexCount());
+        PBCosString result = STRINGS.get(key);
+        if (result == null) {
+            result = new PBCosString(cosString);
+            STRINGS.put(key, result);
+        }
+        return result;
+    }
+
     /**
      * Get Unicode string value stored in the PDF object
      */
@@ -85,4 +112,41 @@ public class PBCosString extends PBCosObject implements CosString {
     public Long gethexCount() {
         return this.hexCount;
     }
+
+    private static final class CacheKey {
+        private final String value;
+        private final boolean isHex;
+        private final boolean containsOnlyHex;
+        private final Long hexCount;
+
+        CacheKey(String value, boolean isHex, boolean containsOnlyHex, Long hexCount) {
+            this.value = value;
+            this.isHex = isHex;
+            this.containsOnlyHex = containsOnlyHex;
+            this.hexCount = hexCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return this.isHex == that.isHex && this.containsOnlyHex == that.containsOnlyHex
+                    && this.value.equals(that.value)
+                    && (this.hexCount == null ? that.hexCount == null : this.hexCount.equals(that.hexCount));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.value.hashCode();
+            result = 31 * result + (this.isHex ? 1 : 0);
+            result = 31 * result + (this.containsOnlyHex ? 1 : 0);
+            result = 31 * result + (this.hexCount != null ? this.hexCount.hashCode() : 0);
+            return result;
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosIndirect;
 import org.verapdf.model.coslayer.CosTrailer;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.util.ArrayList;
@@ -52,8 +53,8 @@ public class PBCosTrailer extends PBCosDict implements CosTrailer {
      * Default constructor
      * @param dictionary pdfbox COSDictionary
      */
-    public PBCosTrailer(COSDictionary dictionary, PDDocument document, PDFAFlavour flavour) {
-        super(dictionary, COS_TRAILER_TYPE, document, flavour);
+    public PBCosTrailer(COSDictionary dictionary, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        super(dictionary, COS_TRAILER_TYPE, context, document, flavour);
         this.isEncrypted = dictionary.getItem(COSName.ENCRYPT) != null;
     }
 
@@ -77,7 +78,7 @@ public class PBCosTrailer extends PBCosDict implements CosTrailer {
         List<CosIndirect> catalog = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
         COSBase base = ((COSDictionary) this.baseObject)
 				.getItem(COSName.ROOT);
-        catalog.add(new PBCosIndirect((COSObject) base, this.document, this.flavour));
+        catalog.add(new PBCosIndirect((COSObject) base, this.context, this.document, this.flavour));
         return Collections.unmodifiableList(catalog);
     }
 }
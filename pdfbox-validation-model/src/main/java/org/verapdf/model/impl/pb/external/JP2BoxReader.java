@@ -0,0 +1,173 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.external;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Sequential reader of boxes of a JPEG2000 stream. Box headers and fields are
+ * read into a single reusable buffer, box contents that are not needed are
+ * skipped without reading.
+ */
+final class JP2BoxReader {
+
+	/** Length of box header with 4 bytes length */
+	static final int BOX_HEADER_LENGTH = 8;
+	/** Length of box header with extended 8 bytes length */
+	static final int EXTENDED_BOX_HEADER_LENGTH = 16;
+
+	private static final int MAX_FIELD_LENGTH = 16;
+	private static final int SKIP_BUFFER_SIZE = 4096;
+
+	private final InputStream stream;
+	private final ByteBuffer buffer = ByteBuffer.allocate(MAX_FIELD_LENGTH);
+
+	private long boxLength;
+	private int boxType;
+	private int boxHeaderLength;
+
+	JP2BoxReader(InputStream stream) {
+		this.stream = stream;
+	}
+
+	/**
+	 * Reads header of the next box
+	 *
+	 * @return false if the stream ends before the box header
+	 * @throws IOException when stream can not be read
+	 */
+	boolean nextBox() throws IOException {
+		if (!fill(BOX_HEADER_LENGTH)) {
+			return false;
+		}
+		this.boxLength = this.buffer.getInt() & 0xFFFFFFFFL;
+		this.boxType = this.buffer.getInt();
+		this.boxHeaderLength = BOX_HEADER_LENGTH;
+		if (this.boxLength == 1) {
+			if (!fill(BOX_HEADER_LENGTH)) {
+				return false;
+			}
+			this.boxLength = this.buffer.getLong();
+			this.boxHeaderLength = EXTENDED_BOX_HEADER_LENGTH;
+		}
+		return true;
+	}
+
+	/**
+	 * @return length of the current box including its header, 0 if the box
+	 *         lasts to the end of the stream
+	 */
+	long getBoxLength() {
+		return this.boxLength;
+	}
+
+	int getBoxType() {
+		return this.boxType;
+	}
+
+	int getBoxHeaderLength() {
+		return this.boxHeaderLength;
+	}
+
+	/**
+	 * Reads bytes into the internal buffer
+	 *
+	 * @param length number of bytes, not greater than 16
+	 * @return buffer with read bytes, or null if the stream ends before
+	 * @throws IOException when stream can not be read
+	 */
+	ByteBuffer read(int length) throws IOException {
+		return fill(length) ? this.buffer : null;
+	}
+
+	/**
+	 * Reads bytes into a new array
+	 *
+	 * @param length number of bytes
+	 * @return read bytes, or null if the stream ends before
+	 * @throws IOException when stream can not be read
+	 */
+	byte[] readBytes(int length) throws IOException {
+		byte[] result = readAvailable(length);
+		return result.length == length ? result : null;
+	}
+
+	/**
+	 * Reads bytes into a new array, stopping at the end of the stream
+	 *
+	 * @param length maximal number of bytes
+	 * @return read bytes, shorter than {@code length} if the stream ends before
+	 * @throws IOException when stream can not be read
+	 */
+	byte[] readAvailable(int length) throws IOException {
+		byte[] result = new byte[length];
+		int offset = 0;
+		while (offset < length) {
+			int read = this.stream.read(result, offset, length - offset);
+			if (read == -1) {
+				return Arrays.copyOf(result, offset);
+			}
+			offset += read;
+		}
+		return result;
+	}
+
+	/**
+	 * Skips bytes of the stream, stopping at the end of the stream
+	 *
+	 * @param length number of bytes to skip
+	 * @throws IOException when stream can not be read
+	 */
+	void skip(long length) throws IOException {
+		long left = length;
+		while (left > 0) {
+			long skipped = this.stream.skip(left);
+			if (skipped <= 0) {
+				// skip may return 0 before the end of the stream
+				byte[] skipBuffer = new byte[(int) Math.min(left, SKIP_BUFFER_SIZE)];
+				int read = this.stream.read(skipBuffer);
+				if (read == -1) {
+					return;
+				}
+				skipped = read;
+			}
+			left -= skipped;
+		}
+	}
+
+	private boolean fill(int length) throws IOException {
+		byte[] array = this.buffer.array();
+		int offset = 0;
+		while (offset < length) {
+			int read = this.stream.read(array, offset, length - offset);
+			if (read == -1) {
+				return false;
+			}
+			offset += read;
+		}
+		this.buffer.clear();
+		this.buffer.limit(length);
+		return true;
+	}
+}
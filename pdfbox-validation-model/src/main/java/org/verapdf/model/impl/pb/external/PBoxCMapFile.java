@@ -21,11 +21,11 @@
 package org.verapdf.model.impl.pb.external;
 
 import org.apache.fontbox.cmap.CMap;
-import org.apache.fontbox.cmap.CMapParser;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
 import org.verapdf.model.external.CMapFile;
+import org.verapdf.model.impl.pb.containers.CMapCache;
 
 import java.io.IOException;
 
@@ -62,7 +62,7 @@ public class PBoxCMapFile extends PBoxExternal implements CMapFile {
     @Override
 	public Long getWMode() {
         try {
-            CMap map = new CMapParser().parse(fileStream.getUnfilteredStream());
+            CMap map = CMapCache.getCMap(this.fileStream);
             return Long.valueOf(map.getWMode());
         } catch (IOException e) {
             LOGGER.debug("Could not parse CMap", e);
@@ -22,13 +22,12 @@ package org.verapdf.model.impl.pb.external;
 
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSName;
-import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
+import org.verapdf.features.pb.tools.PBStreamPrefixReader;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.external.ICCProfile;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * Embedded ICC profile
@@ -55,7 +54,6 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
     public static final int SUBVERSION_BYTE = 9;
 
     private byte[] profileHeader;
-    private InputStream profileStream;
     private Long dictionaryNumberOfColors;
     private boolean isValid = true;
 
@@ -64,13 +62,16 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
         super(type);
 
         try {
-            this.profileStream = profileStream.getUnfilteredStream();
             this.dictionaryNumberOfColors = profileStream.getLong(COSName.N);
             if(this.dictionaryNumberOfColors == -1) {
                 this.dictionaryNumberOfColors = null;
             }
 
-            initializeProfileHeader();
+            // decode only the header instead of the whole profile
+            this.profileHeader = PBStreamPrefixReader.readPrefix(profileStream, HEADER_LENGTH);
+            if (this.profileHeader.length != HEADER_LENGTH) {
+                this.isValid = false;
+            }
         } catch (IOException e) {
             this.isValid = false;
             if(this.profileHeader == null) {
@@ -79,21 +80,6 @@ public class PBoxICCProfile extends PBoxExternal implements ICCProfile {
         }
     }
 
-    private void initializeProfileHeader() throws IOException {
-        int available = this.profileStream.available();
-        int size = available > HEADER_LENGTH ? HEADER_LENGTH : available;
-        if(size != HEADER_LENGTH) {
-            this.isValid = false;
-        }
-
-        this.profileHeader = new byte[size];
-        this.profileStream.mark(size);
-        this.profileStream.read(this.profileHeader, 0, size);
-        this.profileStream.reset();
-		// TODO : finalize it correct, when object will destroy
-		this.profileStream.close();
-    }
-
     /**
      * @return string representation of device class or null, if profile length
      *         is too small
@@ -30,12 +30,17 @@ import org.apache.pdfbox.pdmodel.graphics.color.PDICCBased;
 import org.apache.pdfbox.pdmodel.graphics.color.PDLab;
 import org.verapdf.model.external.JPEG2000;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.containers.JPEG2000HeaderCache;
 import org.verapdf.model.pdlayer.PDColorSpace;
+import org.verapdf.model.tools.ContentDigest;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * @author Maksim Bezrukov
@@ -56,10 +61,19 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	protected static final PDColorSpace DEFAULT_COLOR_SPACE = null;
 	private static final byte[] sign = { 0x00, 0x00, 0x00, 0x0C, 0x6A, 0x50, 0x20, 0x20, 0x0D, 0x0A, -0x79, 0x0A };
 
-	private static final byte[] header = { 0x6A, 0x70, 0x32, 0x68 };
-	private static final byte[] ihdr = { 0x69, 0x68, 0x64, 0x72 };
-	private static final byte[] bpcc = { 0x62, 0x70, 0x63, 0x63 };
-	private static final byte[] colr = { 0x63, 0x6F, 0x6C, 0x72 };
+	private static final int HEADER = 0x6A703268;
+	private static final int IHDR = 0x69686472;
+	private static final int BPCC = 0x62706363;
+	private static final int COLR = 0x636F6C72;
+
+	private static final int IHDR_LENGTH = 14;
+	private static final int IHDR_NC_OFFSET = 8;
+	private static final int IHDR_BPC_OFFSET = 10;
+	private static final int COLR_FIELDS_LENGTH = 3;
+	private static final int COLR_APPROX_OFFSET = 2;
+	private static final int ENUM_CS_LENGTH = 4;
+
+	private static final int MAX_CACHED_HEADER_LENGTH = 1 << 24;
 
 	private final Long nrColorChannels;
 	private final Long nrColorSpaceSpecs;
@@ -70,52 +84,98 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 	private final Boolean bpccBoxPresent;
 	private final PDColorSpace colorSpace;
 
-	private PBoxJPEG2000(Long nrColorChannels, Long nrColorSpaceSpecs, Long nrColorSpacesWithApproxField,
-			Long colrMethod, Long colrEnumCS, Long bitDepth, Boolean bpccBoxPresent, PDColorSpace colorSpace) {
+	private PBoxJPEG2000(Header header, PDColorSpace colorSpace) {
 		super(JPEG_2000_TYPE);
-		this.nrColorChannels = nrColorChannels;
-		this.nrColorSpaceSpecs = nrColorSpaceSpecs;
-		this.nrColorSpacesWithApproxField = nrColorSpacesWithApproxField;
-		this.colrMethod = colrMethod;
-		this.colrEnumCS = colrEnumCS;
-		this.bitDepth = bitDepth;
-		this.bpccBoxPresent = bpccBoxPresent;
+		this.nrColorChannels = header.nrColorChannels;
+		this.nrColorSpaceSpecs = header.nrColorSpaceSpecs;
+		this.nrColorSpacesWithApproxField = header.nrColorSpacesWithApproxField;
+		this.colrMethod = header.colrMethod;
+		this.colrEnumCS = header.colrEnumCS;
+		this.bitDepth = header.bitDepth;
+		this.bpccBoxPresent = header.bpccBoxPresent;
 		this.colorSpace = colorSpace;
 	}
 
 	/**
 	 * Creates new PBoxJPEG2000 object that implements JPEG2000 object from the
-	 * model from the given jp2 image stream
+	 * model from the given jp2 image stream. Header boxes are analysed once
+	 * per distinct header content, see {@link JPEG2000HeaderCache}, and
+	 * images of the same document with equal header boxes share the object.
 	 *
 	 * @param stream
 	 *            image stream to parse
 	 * @return created PBoxJPEG2000 object
 	 */
-	public static PBoxJPEG2000 fromStream(InputStream stream, PDDocument document, PDFAFlavour flavour) {
-		Builder builder = new Builder();
-
-		byte[] signArray = new byte[12];
+	public static PBoxJPEG2000 fromStream(InputStream stream, DocumentContext context, PDDocument document,
+			PDFAFlavour flavour) {
+		JP2BoxReader reader = new JP2BoxReader(stream);
 		try {
 			// Check if the stream starts with valid jp2 signature
-			if (stream.read(signArray) != 12 || !isValidSignature(signArray)) {
+			ByteBuffer signature = reader.read(sign.length);
+			if (signature == null || !isValidSignature(signature)) {
 				LOGGER.debug("File contains wrong signature");
-				return builder.build();
+				return fromHeader(Header.EMPTY, context, document, flavour);
 			}
 			// Finding the beginning of the header box content
-			long headerLeft = findHeader(stream);
+			long headerLeft = findHeader(reader);
 
-			if (headerLeft >= 0) {
-				parseHeader(stream, headerLeft, builder, document, flavour);
+			if (headerLeft < 0) {
+				return fromHeader(Header.EMPTY, context, document, flavour);
 			}
-
+			if (headerLeft == 0 || headerLeft > MAX_CACHED_HEADER_LENGTH) {
+				return fromHeader(parseHeader(reader, headerLeft), context, document, flavour);
+			}
+			byte[] headerBox = reader.readAvailable((int) headerLeft);
+			if (headerBox.length < headerLeft) {
+				LOGGER.debug("Header box ends after the end of the stream");
+				JP2BoxReader headerReader = new JP2BoxReader(new ByteArrayInputStream(headerBox));
+				return fromHeader(parseHeader(headerReader, headerLeft), context, document, flavour);
+			}
+			return fromHeaderBox(headerBox, context, document, flavour);
 		} catch (IOException e) {
 			LOGGER.debug(e);
 		}
-		return builder.build();
+		return fromHeader(Header.EMPTY, context, document, flavour);
+	}
+
+	private static PBoxJPEG2000 fromHeaderBox(byte[] headerBox, DocumentContext context, PDDocument document,
+			PDFAFlavour flavour) {
+		ContentDigest digest = ContentDigest.of(headerBox);
+		CountingCache<ContentDigest, PBoxJPEG2000> images = context.getCachedJPEG2000();
+		PBoxJPEG2000 result = images.get(digest);
+		if (result != null) {
+			return result;
+		}
+		CountingCache<ContentDigest, Header> headers = JPEG2000HeaderCache.getCache();
+		Header header = headers == null ? null : headers.get(digest);
+		if (header == null) {
+			header = parseHeader(new JP2BoxReader(new ByteArrayInputStream(headerBox)), headerBox.length);
+			if (headers != null) {
+				headers.put(digest, header);
+			}
+		}
+		result = fromHeader(header, context, document, flavour);
+		images.put(digest, result);
+		return result;
+	}
+
+	private static PBoxJPEG2000 fromHeader(Header header, DocumentContext context, PDDocument document,
+			PDFAFlavour flavour) {
+		PDColorSpace colorSpace = null;
+		if (header.colorSpec != null) {
+			try {
+				org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace pdColorSpace =
+						header.colorSpec.createColorSpace(document);
+				colorSpace = ColorSpaceFactory.getColorSpace(pdColorSpace, context, document, flavour);
+			} catch (IOException e) {
+				LOGGER.debug(e);
+			}
+		}
+		return new PBoxJPEG2000(header, colorSpace);
 	}
 
-	private static void parseHeader(final InputStream stream, final long headerLeft, final Builder builder,
-			PDDocument document, PDFAFlavour flavour) throws IOException {
+	private static Header parseHeader(final JP2BoxReader reader, final long headerLeft) {
+		Builder builder = new Builder();
 		long leftInHeader = headerLeft;
 		boolean isHeaderReachEnd = leftInHeader == 0;
 		Long nrColorSpaceSpecs = null;
@@ -125,137 +185,126 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		Long colrMethod = null;
 		Long colrEnumCS = null;
 		Boolean doesFirstContainsColorSpace = null;
-		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace firstColorSpace = null;
-		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace = null;
-
-		while (true) {
-			byte[] lbox = new byte[4];
-			byte[] tbox = new byte[4];
-			if (stream.read(lbox) != 4 || stream.read(tbox) != 4) {
-				break;
-			}
-			int skipped = 8;
-			long length = convertArrayToLong(lbox);
-			if (length == 1) {
-				byte[] xlbox = new byte[8];
-				if (stream.read(xlbox) != 8) {
-					break;
-				}
-				length = convertArrayToLong(xlbox);
-				skipped = 16;
-			}
-			if (length < 0 || (!isHeaderReachEnd && (length == 0 || length > leftInHeader))) {
-				break;
-			}
-			long leftInBox = length - skipped;
+		ColorSpec firstColorSpec = null;
+		ColorSpec colorSpec = null;
 
-			if (matches(tbox, ihdr)) {
-				if (leftInBox != 14 && length != 0) {
-					LOGGER.debug("Image header content does not contain 14 bytes");
-					break;
-				}
-				skipBytes(stream, 8);
-				byte[] nc = new byte[2];
-				if (stream.read(nc) != 2) {
-					LOGGER.debug("Can not read number of components");
-					break;
-				}
-				long ncColorChannels = convertArrayToLong(nc);
-				builder.setNrColorChannels(Long.valueOf(ncColorChannels));
-				byte[] bpc = new byte[1];
-				if (stream.read(bpc) != 1) {
-					LOGGER.debug("Can not read bitDepth");
-					break;
-				}
-				long bitDepth = bpc[0] + 1;
-				builder.setBitDepth(Long.valueOf(bitDepth));
-				skipBytes(stream, 3);
-			} else if (matches(tbox, bpcc)) {
-				builder.setBpccBoxPresent(Boolean.TRUE);
-				skipBytes(stream, leftInBox);
-			} else if (matches(tbox, colr)) {
-				if (leftInBox < 3) {
-					LOGGER.debug("Founded 'colr' box with length less than 3");
-					break;
-				}
-				if (nrColorSpaceSpecs == null) {
-					nrColorSpaceSpecs = Long.valueOf(1L);
-				} else {
-					++nrColorSpaceSpecs;
-				}
-				byte[] meth = new byte[1];
-				if (stream.read(meth) != 1) {
-					LOGGER.debug("Can not read METH");
-					break;
-				}
-				long methValue = convertArrayToLong(meth);
-				if (firstColrMethod == null) {
-					firstColrMethod = Long.valueOf(methValue);
-				}
-				skipBytes(stream, 1);
-				byte[] approx = new byte[1];
-				if (stream.read(approx) != 1) {
-					LOGGER.debug("Can not read APPROX");
+		try {
+			while (reader.nextBox()) {
+				long length = reader.getBoxLength();
+				if (length < 0 || (!isHeaderReachEnd && (length == 0 || length > leftInHeader))) {
 					break;
 				}
-				long approxValue = convertArrayToLong(approx);
-				if (approxValue == 1) {
-					if (nrColorSpacesWithApproxField == null) {
-						nrColorSpacesWithApproxField = Long.valueOf(1L);
-					} else {
-						++nrColorSpacesWithApproxField;
-					}
-					if (colrMethod == null) {
-						colrMethod = Long.valueOf(methValue);
-					}
-				}
-				long read = 3;
-				if (methValue == 1) {
-					if (leftInBox < 7) {
-						LOGGER.debug("Founded 'colr' box with meth value 1 and length less than 7");
+				long leftInBox = length - reader.getBoxHeaderLength();
+				int type = reader.getBoxType();
+
+				if (type == IHDR) {
+					if (leftInBox != IHDR_LENGTH && length != 0) {
+						LOGGER.debug("Image header content does not contain 14 bytes");
 						break;
 					}
-					byte[] enumCS = new byte[4];
-					if (stream.read(enumCS) != 4) {
-						LOGGER.debug("Can not read EnumCS");
+					ByteBuffer imageHeader = reader.read(IHDR_LENGTH);
+					if (imageHeader == null) {
+						LOGGER.debug("Can not read image header");
 						break;
 					}
-					read += 4;
-					long enumCSValue = convertArrayToLong(enumCS);
-					if (firstColrEnumCS == null) {
-						firstColrEnumCS = Long.valueOf(enumCSValue);
-						firstColorSpace = createColorSpaceFromEnumValue(firstColrEnumCS.longValue(), document);
-						doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpace != null);
+					long ncColorChannels = imageHeader.getShort(IHDR_NC_OFFSET) & 0xFFFF;
+					builder.setNrColorChannels(Long.valueOf(ncColorChannels));
+					long bitDepth = imageHeader.get(IHDR_BPC_OFFSET) + 1;
+					builder.setBitDepth(Long.valueOf(bitDepth));
+				} else if (type == BPCC) {
+					builder.setBpccBoxPresent(Boolean.TRUE);
+					reader.skip(leftInBox);
+				} else if (type == COLR) {
+					if (leftInBox < COLR_FIELDS_LENGTH) {
+						LOGGER.debug("Founded 'colr' box with length less than 3");
+						break;
 					}
-					if (approxValue == 1 && colrEnumCS == null) {
-						colrEnumCS = Long.valueOf(enumCSValue);
-						colorSpace = createColorSpaceFromEnumValue(colrEnumCS.longValue(), document);
+					if (nrColorSpaceSpecs == null) {
+						nrColorSpaceSpecs = Long.valueOf(1L);
+					} else {
+						++nrColorSpaceSpecs;
 					}
-				} else if (methValue == 2) {
-					int profileLength = (int) (leftInBox - read);
-					byte[] profile = new byte[profileLength];
-					if (stream.read(profile) != profileLength) {
-						LOGGER.debug("Can not read Profile");
+					ByteBuffer fields = reader.read(COLR_FIELDS_LENGTH);
+					if (fields == null) {
+						LOGGER.debug("Can not read METH, PREC and APPROX");
 						break;
 					}
-					read += profileLength;
-					if (doesFirstContainsColorSpace == null) {
-						firstColorSpace = createColorSpaceFromProfile(profile, document);
-						doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpace != null);
+					long methValue = fields.get(0) & 0xFF;
+					if (firstColrMethod == null) {
+						firstColrMethod = Long.valueOf(methValue);
 					}
-					if (approxValue == 1 && colorSpace == null) {
-						colorSpace = createColorSpaceFromProfile(profile, document);
+					long approxValue = fields.get(COLR_APPROX_OFFSET) & 0xFF;
+					if (approxValue == 1) {
+						if (nrColorSpacesWithApproxField == null) {
+							nrColorSpacesWithApproxField = Long.valueOf(1L);
+						} else {
+							++nrColorSpacesWithApproxField;
+						}
+						if (colrMethod == null) {
+							colrMethod = Long.valueOf(methValue);
+						}
 					}
+					long read = COLR_FIELDS_LENGTH;
+					if (methValue == 1) {
+						if (leftInBox < COLR_FIELDS_LENGTH + ENUM_CS_LENGTH) {
+							LOGGER.debug("Founded 'colr' box with meth value 1 and length less than 7");
+							break;
+						}
+						ByteBuffer enumCS = reader.read(ENUM_CS_LENGTH);
+						if (enumCS == null) {
+							LOGGER.debug("Can not read EnumCS");
+							break;
+						}
+						read += ENUM_CS_LENGTH;
+						long enumCSValue = enumCS.getInt(0) & 0xFFFFFFFFL;
+						if (firstColrEnumCS == null) {
+							firstColrEnumCS = Long.valueOf(enumCSValue);
+							firstColorSpec = ColorSpec.fromEnumValue(firstColrEnumCS.longValue());
+							doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpec != null);
+						}
+						if (approxValue == 1 && colrEnumCS == null) {
+							colrEnumCS = Long.valueOf(enumCSValue);
+							colorSpec = ColorSpec.fromEnumValue(colrEnumCS.longValue());
+						}
+					} else if (methValue == 2) {
+						long profileLength = leftInBox - read;
+						if (profileLength < 0 || profileLength > Integer.MAX_VALUE) {
+							LOGGER.debug("Founded 'colr' box with wrong profile length");
+							break;
+						}
+						boolean isProfileUsed = doesFirstContainsColorSpace == null
+								|| (approxValue == 1 && colorSpec == null);
+						if (isProfileUsed) {
+							byte[] profile = reader.readBytes((int) profileLength);
+							if (profile == null) {
+								LOGGER.debug("Can not read Profile");
+								break;
+							}
+							ColorSpec profileSpec = ColorSpec.fromProfile(profile);
+							if (doesFirstContainsColorSpace == null) {
+								firstColorSpec = profileSpec;
+								doesFirstContainsColorSpace = Boolean.valueOf(firstColorSpec != null);
+							}
+							if (approxValue == 1 && colorSpec == null) {
+								colorSpec = profileSpec;
+							}
+						} else {
+							reader.skip(profileLength);
+						}
+						read += profileLength;
+					}
+					reader.skip(leftInBox - read);
+				} else {
+					reader.skip(leftInBox);
 				}
-				skipBytes(stream, leftInBox - read);
-			} else {
-				skipBytes(stream, leftInBox);
-			}
 
-			leftInHeader -= length;
-			if ((isHeaderReachEnd && length == 0) || (!isHeaderReachEnd && leftInHeader == 0)) {
-				break;
+				leftInHeader -= length;
+				if ((isHeaderReachEnd && length == 0) || (!isHeaderReachEnd && leftInHeader == 0)) {
+					break;
+				}
 			}
+		} catch (IOException e) {
+			LOGGER.debug(e);
 		}
 
 		if (nrColorSpaceSpecs != null) {
@@ -272,9 +321,7 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 			if (colrEnumCS != null) {
 				builder.setColrEnumCS(colrEnumCS);
 			}
-			if (colorSpace != null) {
-				builder.setColorSpace(ColorSpaceFactory.getColorSpace(colorSpace, document, flavour));
-			}
+			builder.setColorSpec(colorSpec);
 		} else if (Long.valueOf(1L).equals(nrColorSpaceSpecs)) {
 			if (firstColrMethod != null) {
 				builder.setColrMethod(firstColrMethod);
@@ -282,144 +329,26 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 			if (firstColrEnumCS != null) {
 				builder.setColrEnumCS(firstColrEnumCS);
 			}
-			if (firstColorSpace != null) {
-				builder.setColorSpace(ColorSpaceFactory.getColorSpace(firstColorSpace, document, flavour));
-			}
+			builder.setColorSpec(firstColorSpec);
 		}
-	}
-
-	private static org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace createColorSpaceFromEnumValue(long enumCS,
-			PDDocument document) {
-		if (enumCS > Integer.MAX_VALUE) {
-			return null;
-		}
-
-		switch ((int) enumCS) {
-		case 12:
-			return PDDeviceCMYK.INSTANCE;
-		case 14:
-			return new PDLab();
-		case 17:
-			PDICCBased pdiccBased = new PDICCBased(document);
-			pdiccBased.setNumberOfComponents(1);
-			return pdiccBased;
-		case 16:
-		case 18:
-		case 20:
-		case 21:
-		case 24:
-			PDICCBased pdicc = new PDICCBased(document);
-			pdicc.setNumberOfComponents(3);
-			return pdicc;
-		default:
-			return null;
-		}
-	}
-
-	private static PDICCBased createColorSpaceFromProfile(byte[] profile, PDDocument document) throws IOException {
-		if (profile.length < 20) {
-			return null;
-		}
-
-		String type = new String(profile, 16, 4);
-		COSArray array = new COSArray();
-		array.add(COSName.ICCBASED);
-		PDStream stream = new PDStream(document, new ByteArrayInputStream(profile));
-		int nrOfComp;
-		switch (type) {
-		case "GRAY":
-			nrOfComp = 1;
-			break;
-		case "2CLR":
-			nrOfComp = 2;
-			break;
-		case "XYZ ":
-		case "Lab ":
-		case "Luv ":
-		case "YCbr":
-		case "Yxy ":
-		case "RGB ":
-		case "HSV ":
-		case "HLS ":
-		case "CMY ":
-		case "3CLR":
-			nrOfComp = 3;
-			break;
-		case "CMYK":
-		case "4CLR":
-			nrOfComp = 4;
-			break;
-		case "5CLR":
-			nrOfComp = 5;
-			break;
-		case "6CLR":
-			nrOfComp = 6;
-			break;
-		case "7CLR":
-			nrOfComp = 7;
-			break;
-		case "8CLR":
-			nrOfComp = 8;
-			break;
-		case "9CLR":
-			nrOfComp = 9;
-			break;
-		case "ACLR":
-			nrOfComp = 10;
-			break;
-		case "BCLR":
-			nrOfComp = 11;
-			break;
-		case "CCLR":
-			nrOfComp = 12;
-			break;
-		case "DCLR":
-			nrOfComp = 13;
-			break;
-		case "ECLR":
-			nrOfComp = 14;
-			break;
-		case "FCLR":
-			nrOfComp = 15;
-			break;
-		default:
-			LOGGER.debug("Unknown color space signature in ICC Profile of image. Current signature: " + type);
-			return null;
-		}
-		stream.getStream().setInt(COSName.N, nrOfComp);
-		array.add(stream);
-		return new PDICCBased(array);
+		return builder.build();
 	}
 
 	/**
 	 * Finds the beginning of the header box content and returns its left length
 	 *
-	 * @param stream
-	 *            image stream
+	 * @param reader
+	 *            reader of image stream boxes
 	 * @return left length of the header box or -1 if it has not been found and
 	 *         0 if it ends at the end of the stream
 	 * @throws IOException
 	 */
-	private static long findHeader(InputStream stream) throws IOException {
-		while (true) {
-			byte[] lbox = new byte[4];
-			byte[] tbox = new byte[4];
-			if (stream.read(lbox) != 4 || stream.read(tbox) != 4) {
-				return -1L;
-			}
-			int skipped = 8;
-			long length = convertArrayToLong(lbox);
-			if (length == 1) {
-				byte[] xlbox = new byte[8];
-				if (stream.read(xlbox) != 8) {
-					return -1L;
-				}
-				length = convertArrayToLong(xlbox);
-				skipped = 16;
-			}
-			long left = length - skipped;
+	private static long findHeader(JP2BoxReader reader) throws IOException {
+		while (reader.nextBox()) {
+			long length = reader.getBoxLength();
+			long left = length - reader.getBoxHeaderLength();
 			// Check is current box a header
-			if (matches(tbox, header)) {
+			if (reader.getBoxType() == HEADER) {
 				if (length == 0) {
 					return 0;
 				}
@@ -427,40 +356,15 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 			} else if (length == 0 || left < 0) {
 				return -1L;
 			} else {
-				skipBytes(stream, left);
+				reader.skip(left);
 			}
 		}
+		return -1L;
 	}
 
-	private static void skipBytes(InputStream stream, long skipNumber) throws IOException {
-		long skippedBytes = stream.skip(skipNumber);
-		if (skippedBytes != skipNumber && stream.available() != 0) {
-			throw new IllegalStateException("Skipped less bytes that needed.");
-		}
-	}
-
-	private static long convertArrayToLong(byte[] toConvert) {
-		if (toConvert.length < 1 || toConvert.length > 8) {
-			throw new IllegalArgumentException("Length of the converting byte array can not be greater than 8");
-		}
-		long res = 0;
-		for (byte aToConvert : toConvert) {
-			res <<= 8;
-			res += aToConvert & 0xff;
-		}
-		return res;
-	}
-
-	private static boolean isValidSignature(byte[] signature) {
-		return matches(signature, sign);
-	}
-
-	private static boolean matches(byte[] source, byte[] match) {
-		if (match.length != source.length) {
-			return false;
-		}
-		for (int i = 0; i < match.length; ++i) {
-			if (source[i] != match[i]) {
+	private static boolean isValidSignature(ByteBuffer signature) {
+		for (int i = 0; i < sign.length; ++i) {
+			if (signature.get(i) != sign[i]) {
 				return false;
 			}
 		}
@@ -506,6 +410,157 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		return this.bpccBoxPresent;
 	}
 
+	/**
+	 * Results of the analysis of the header box that do not depend on the
+	 * document containing the image, shared by images with equal header boxes
+	 */
+	public static final class Header {
+
+		static final Header EMPTY = new Builder().build();
+
+		private final Long nrColorChannels;
+		private final Long nrColorSpaceSpecs;
+		private final Long nrColorSpacesWithApproxField;
+		private final Long colrMethod;
+		private final Long colrEnumCS;
+		private final Long bitDepth;
+		private final Boolean bpccBoxPresent;
+		private final ColorSpec colorSpec;
+
+		private Header(Builder builder) {
+			this.nrColorChannels = builder.nrColorChannels;
+			this.nrColorSpaceSpecs = builder.nrColorSpaceSpecs;
+			this.nrColorSpacesWithApproxField = builder.nrColorSpacesWithApproxField;
+			this.colrMethod = builder.colrMethod;
+			this.colrEnumCS = builder.colrEnumCS;
+			this.bitDepth = builder.bitDepth;
+			this.bpccBoxPresent = builder.bpccBoxPresent;
+			this.colorSpec = builder.colorSpec;
+		}
+	}
+
+	/**
+	 * Colour space of the image given by enumerated value or by ICC profile
+	 */
+	private static final class ColorSpec {
+
+		private final long enumCS;
+		private final byte[] profile;
+		private final int nrOfComponents;
+
+		private ColorSpec(long enumCS, byte[] profile, int nrOfComponents) {
+			this.enumCS = enumCS;
+			this.profile = profile;
+			this.nrOfComponents = nrOfComponents;
+		}
+
+		static ColorSpec fromEnumValue(long enumCS) {
+			if (enumCS > Integer.MAX_VALUE) {
+				return null;
+			}
+
+			switch ((int) enumCS) {
+			case 12:
+				return new ColorSpec(enumCS, null, 4);
+			case 14:
+				return new ColorSpec(enumCS, null, 3);
+			case 17:
+				return new ColorSpec(enumCS, null, 1);
+			case 16:
+			case 18:
+			case 20:
+			case 21:
+			case 24:
+				return new ColorSpec(enumCS, null, 3);
+			default:
+				return null;
+			}
+		}
+
+		static ColorSpec fromProfile(byte[] profile) {
+			if (profile.length < 20) {
+				return null;
+			}
+
+			String type = new String(profile, 16, 4);
+			int nrOfComp = getNumberOfComponents(type);
+			if (nrOfComp == 0) {
+				LOGGER.debug("Unknown color space signature in ICC Profile of image. Current signature: " + type);
+				return null;
+			}
+			return new ColorSpec(0, profile, nrOfComp);
+		}
+
+		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace createColorSpace(PDDocument document)
+				throws IOException {
+			if (this.profile != null) {
+				COSArray array = new COSArray();
+				array.add(COSName.ICCBASED);
+				PDStream stream = new PDStream(document, new ByteArrayInputStream(this.profile));
+				stream.getStream().setInt(COSName.N, this.nrOfComponents);
+				array.add(stream);
+				return new PDICCBased(array);
+			}
+			switch ((int) this.enumCS) {
+			case 12:
+				return PDDeviceCMYK.INSTANCE;
+			case 14:
+				return new PDLab();
+			default:
+				PDICCBased pdiccBased = new PDICCBased(document);
+				pdiccBased.setNumberOfComponents(this.nrOfComponents);
+				return pdiccBased;
+			}
+		}
+
+		private static int getNumberOfComponents(String type) {
+			switch (type) {
+			case "GRAY":
+				return 1;
+			case "2CLR":
+				return 2;
+			case "XYZ ":
+			case "Lab ":
+			case "Luv ":
+			case "YCbr":
+			case "Yxy ":
+			case "RGB ":
+			case "HSV ":
+			case "HLS ":
+			case "CMY ":
+			case "3CLR":
+				return 3;
+			case "CMYK":
+			case "4CLR":
+				return 4;
+			case "5CLR":
+				return 5;
+			case "6CLR":
+				return 6;
+			case "7CLR":
+				return 7;
+			case "8CLR":
+				return 8;
+			case "9CLR":
+				return 9;
+			case "ACLR":
+				return 10;
+			case "BCLR":
+				return 11;
+			case "CCLR":
+				return 12;
+			case "DCLR":
+				return 13;
+			case "ECLR":
+				return 14;
+			case "FCLR":
+				return 15;
+			default:
+				return 0;
+			}
+		}
+	}
+
 	private static class Builder {
 		private Long nrColorChannels = DEFAULT_NR_COLOR_CHANNELS;
 		private Long nrColorSpaceSpecs = DEFAULT_NR_COLOR_SPACE_SPECS;
@@ -514,11 +569,10 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 		private Long colrEnumCS = DEFAULT_COLR_ENUM_CS;
 		private Long bitDepth = DEFAULT_BIT_DEPTH;
 		private Boolean bpccBoxPresent = DEFAULT_BPCC_BOX_PRESENT;
-		private PDColorSpace colorSpace = DEFAULT_COLOR_SPACE;
+		private ColorSpec colorSpec = null;
 
-		public PBoxJPEG2000 build() {
-			return new PBoxJPEG2000(this.nrColorChannels, this.nrColorSpaceSpecs, this.nrColorSpacesWithApproxField,
-					this.colrMethod, this.colrEnumCS, this.bitDepth, this.bpccBoxPresent, this.colorSpace);
+		public Header build() {
+			return new Header(this);
 		}
 
 		public Builder setNrColorChannels(Long nrColorChannels) {
@@ -556,8 +610,8 @@ public class PBoxJPEG2000 extends PBoxExternal implements JPEG2000 {
 			return this;
 		}
 
-		public Builder setColorSpace(PDColorSpace colorSpace) {
-			this.colorSpace = colorSpace;
+		public Builder setColorSpec(ColorSpec colorSpec) {
+			this.colorSpec = colorSpec;
 			return this;
 		}
 
@@ -67,7 +67,7 @@ public abstract class PBOperator extends GenericModelObject implements Operator
 			COSBase base = this.arguments.get(this.arguments.size() - 1);
 			if (base instanceof COSFloat) {
 				List<CosReal> cosReals = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				cosReals.add(new PBCosReal((COSFloat) base));
+				cosReals.add(PBCosReal.valueOf((COSFloat) base));
 				return Collections.unmodifiableList(cosReals);
 			}
 		}
@@ -92,7 +92,7 @@ public abstract class PBOperator extends GenericModelObject implements Operator
 			if (base instanceof COSArray) {
 				addArrayElementsAsReals(list, (COSArray) base);
 			} else if (base instanceof COSFloat) {
-				list.add(new PBCosReal((COSFloat) base));
+				list.add(PBCosReal.valueOf((COSFloat) base));
 			}
 		}
 		return Collections.unmodifiableList(list);
@@ -101,7 +101,7 @@ public abstract class PBOperator extends GenericModelObject implements Operator
 	private static void addArrayElementsAsReals(List<CosReal> list, COSArray base) {
 		for (COSBase arg : base) {
 			if (arg instanceof COSFloat) {
-				list.add(new PBCosReal((COSFloat) arg));
+				list.add(PBCosReal.valueOf((COSFloat) arg));
 			}
 		}
 	}
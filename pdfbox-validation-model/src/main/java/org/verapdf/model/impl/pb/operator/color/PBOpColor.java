@@ -71,7 +71,7 @@ public class PBOpColor extends PBOpSetColor implements OpColor {
             COSBase cosBase = this.arguments.get(size - 1);
             if (cosBase instanceof COSName) {
                 List<CosName> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-                res.add(new PBCosName((COSName) cosBase));
+                res.add(PBCosName.valueOf((COSName) cosBase));
                 return Collections.unmodifiableList(res);
             }
         }
@@ -48,7 +48,7 @@ public abstract class PBOpGeneralGS extends PBOperator implements OpGeneralGS {
 					.get(this.arguments.size() - 1);
 			if (number instanceof COSInteger) {
 				List<CosInteger> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new PBCosInteger((COSInteger) number));
+				list.add(PBCosInteger.valueOf((COSInteger) number));
 				return Collections.unmodifiableList(list);
 			}
 		}
@@ -30,6 +30,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosArray;
 import org.verapdf.model.coslayer.CosNumber;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosArray;
 import org.verapdf.model.operator.Op_d;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -50,11 +51,13 @@ public class PBOp_d extends PBOpGeneralGS implements Op_d {
     public static final String DASH_PHASE = "dashPhase";
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
-    public PBOp_d(List<COSBase> arguments, PDDocument document, PDFAFlavour flavour) {
+    public PBOp_d(List<COSBase> arguments, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(arguments, OP_D_TYPE);
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -77,7 +80,7 @@ public class PBOp_d extends PBOpGeneralGS implements Op_d {
 					.get(this.arguments.size() - 2);
 			if (array instanceof COSArray) {
 				List<CosArray> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new PBCosArray((COSArray) array, this.document, this.flavour));
+				list.add(new PBCosArray((COSArray) array, this.context, this.document, this.flavour));
 				return Collections.unmodifiableList(list);
 			}
         }
@@ -24,6 +24,7 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDExtGState;
 import org.verapdf.model.operator.Op_gs;
 import org.verapdf.model.pdlayer.PDExtGState;
@@ -49,13 +50,15 @@ public class PBOp_gs extends PBOpGeneralGS implements Op_gs {
     private PDExtendedGraphicsState extGState;
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
     public PBOp_gs(List<COSBase> arguments,
-				   PDExtendedGraphicsState extGState, PDDocument document, PDFAFlavour flavour) {
+				   PDExtendedGraphicsState extGState, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(arguments, OP_GS_TYPE);
         this.extGState = extGState;
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -70,7 +73,7 @@ public class PBOp_gs extends PBOpGeneralGS implements Op_gs {
     private List<PDExtGState> getExtGState() {
         if (this.extGState != null) {
 			List<PDExtGState> extGStates = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			extGStates.add(new PBoxPDExtGState(this.extGState, this.document, this.flavour));
+			extGStates.add(new PBoxPDExtGState(this.extGState, this.context, this.document, this.flavour));
 			return Collections.unmodifiableList(extGStates);
         }
         return Collections.emptyList();
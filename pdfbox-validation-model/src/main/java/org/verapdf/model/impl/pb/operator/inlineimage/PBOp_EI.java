@@ -27,6 +27,7 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.images.PBoxPDInlineImage;
 import org.verapdf.model.operator.Op_EI;
 import org.verapdf.model.pdlayer.PDInlineImage;
@@ -53,14 +54,16 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 	private final PDResources resources;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	public PBOp_EI(List<COSBase> arguments, byte[] imageData,
-				   PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
+				   PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(arguments, OP_EI_TYPE);
 		this.imageData = imageData;
 		this.resources = PBOp_EI.getResources(resources);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -83,7 +86,7 @@ public class PBOp_EI extends PBOpInlineImage implements Op_EI {
 							this.resources);
 
 			List<PDInlineImage> inlineImages = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			inlineImages.add(new PBoxPDInlineImage(inlineImage, this.document, this.flavour));
+			inlineImages.add(new PBoxPDInlineImage(inlineImage, this.context, this.document, this.flavour));
 			return Collections.unmodifiableList(inlineImages);
 		} catch (IOException e) {
 			LOGGER.debug(e);
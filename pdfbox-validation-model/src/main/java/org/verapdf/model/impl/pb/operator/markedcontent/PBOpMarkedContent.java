@@ -28,6 +28,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.coslayer.CosDict;
 import org.verapdf.model.coslayer.CosLang;
 import org.verapdf.model.coslayer.CosName;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosDict;
 import org.verapdf.model.impl.pb.cos.PBCosLang;
 import org.verapdf.model.impl.pb.cos.PBCosName;
@@ -48,6 +49,7 @@ public abstract class PBOpMarkedContent extends PBOperator implements
         OpMarkedContent {
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	/** Name of link to the tag name */
@@ -57,9 +59,10 @@ public abstract class PBOpMarkedContent extends PBOperator implements
 	/** Name of link to Lang value from the properties dictionary */
 	public static final String LANG = "Lang";
 
-    public PBOpMarkedContent(List<COSBase> arguments, final String opType, PDDocument document, PDFAFlavour flavour) {
+    public PBOpMarkedContent(List<COSBase> arguments, final String opType, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(arguments, opType);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
     }
 
@@ -70,7 +73,7 @@ public abstract class PBOpMarkedContent extends PBOperator implements
 			if (name instanceof COSName) {
 				List<CosName> list =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new PBCosName((COSName) name));
+				list.add(PBCosName.valueOf((COSName) name));
 				return Collections.unmodifiableList(list);
 			}
         }
@@ -84,7 +87,7 @@ public abstract class PBOpMarkedContent extends PBOperator implements
 			if (dict instanceof COSDictionary) {
 				List<CosDict> list =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new PBCosDict((COSDictionary) dict, document, flavour));
+				list.add(new PBCosDict((COSDictionary) dict, context, document, flavour));
 				return Collections.unmodifiableList(list);
 			}
         }
@@ -25,6 +25,7 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosName;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosName;
 import org.verapdf.model.operator.Op_MP;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -43,8 +44,8 @@ public class PBOp_MP extends PBOpMarkedContent implements Op_MP {
 	/** Type name for {@code PBOp_MP} */
     public static final String OP_MP_TYPE = "Op_MP";
 
-    public PBOp_MP(List<COSBase> arguments, PDDocument document, PDFAFlavour flavour) {
-        super(arguments, OP_MP_TYPE, document, flavour);
+    public PBOp_MP(List<COSBase> arguments, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        super(arguments, OP_MP_TYPE, context, document, flavour);
     }
 
     @Override
@@ -64,7 +65,7 @@ public class PBOp_MP extends PBOpMarkedContent implements Op_MP {
 			if (name instanceof COSName) {
 				List<CosName> list =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				list.add(new PBCosName((COSName) name));
+				list.add(PBCosName.valueOf((COSName) name));
 				return Collections.unmodifiableList(list);
 			}
 		}
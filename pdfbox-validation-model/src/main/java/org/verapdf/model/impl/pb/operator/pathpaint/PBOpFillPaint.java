@@ -24,6 +24,7 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
@@ -37,8 +38,8 @@ import java.util.List;
 public abstract class PBOpFillPaint extends PBOpPathPaint {
 
     protected PBOpFillPaint(List<COSBase> arguments, final GraphicState state,
-                            final PDInheritableResources resources, final String opType, PDDocument document, PDFAFlavour flavour) {
-        super(arguments, state, resources, opType, document, flavour);
+                            final PDInheritableResources resources, final String opType, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        super(arguments, state, resources, opType, context, document, flavour);
     }
 
     @Override
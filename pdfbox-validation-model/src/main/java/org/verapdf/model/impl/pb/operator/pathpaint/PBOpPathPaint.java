@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
 import org.apache.pdfbox.pdmodel.graphics.pattern.PDAbstractPattern;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
 import org.verapdf.model.operator.OpPathPaint;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -58,6 +59,7 @@ public abstract class PBOpPathPaint extends PBOperator implements OpPathPaint {
 	private final PDInheritableResources resources;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	private List<org.verapdf.model.pdlayer.PDColorSpace> fillCS = null;
@@ -71,16 +73,16 @@ public abstract class PBOpPathPaint extends PBOperator implements OpPathPaint {
 	 * @param resources resources for tilling pattern if it`s used
 	 */
     protected PBOpPathPaint(List<COSBase> arguments, final GraphicState state,
-			final PDInheritableResources resources, final String opType, PDDocument document, PDFAFlavour flavour) {
+			final PDInheritableResources resources, final String opType, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		this(arguments, state.getFillPattern(), state.getStrokePattern(), state.getStrokeColorSpace(),
-				state.getFillColorSpace(), resources, opType, state.getOpm(), state.isOverprintingFlagStroke(), state.isOverprintingFlagNonStroke(), document, flavour);
+				state.getFillColorSpace(), resources, opType, state.getOpm(), state.isOverprintingFlagStroke(), state.isOverprintingFlagNonStroke(), context, document, flavour);
     }
 
 	protected PBOpPathPaint(List<COSBase> arguments, PDAbstractPattern fillPattern, PDAbstractPattern strokePattern,
 							PDColorSpace pbStrokeColorSpace, PDColorSpace pbFillColorSpace,
 							PDInheritableResources resources, final String type,
 							int op, boolean overprintingFlagStroke, boolean overprintingFlagNonStroke,
-							PDDocument document, PDFAFlavour flavour) {
+							DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(arguments, type);
 		this.pbStrokeColorSpace = pbStrokeColorSpace;
 		this.pbFillColorSpace = pbFillColorSpace;
@@ -91,6 +93,7 @@ public abstract class PBOpPathPaint extends PBOperator implements OpPathPaint {
 		this.overprintingFlagStroke = overprintingFlagStroke;
 		this.overprintingFlagNonStroke = overprintingFlagNonStroke;
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -131,7 +134,7 @@ public abstract class PBOpPathPaint extends PBOperator implements OpPathPaint {
 			PDColorSpace colorSpace, PDAbstractPattern pattern, boolean op) {
 		org.verapdf.model.pdlayer.PDColorSpace veraColorSpace =
 				ColorSpaceFactory.getColorSpace(colorSpace,
-						pattern, this.resources, this.op, op, this.document, this.flavour);
+						pattern, this.resources, this.op, op, this.context, this.document, this.flavour);
 		if (veraColorSpace != null) {
 			List<org.verapdf.model.pdlayer.PDColorSpace> list =
 					new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.operator.pathpaint;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.operator.Op_F_fill_obsolete;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -48,8 +49,8 @@ public class PBOp_F_fill_obsolete extends PBOpFillPaint implements Op_F_fill_obs
 	 */
 	public PBOp_F_fill_obsolete(List<COSBase> arguments,
 								final GraphicState state,
-								final PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
-		super(arguments, state, resources, OP_F_FILL_OBSOLETE_TYPE, document, flavour);
+								final PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		super(arguments, state, resources, OP_F_FILL_OBSOLETE_TYPE, context, document, flavour);
 	}
 
 }
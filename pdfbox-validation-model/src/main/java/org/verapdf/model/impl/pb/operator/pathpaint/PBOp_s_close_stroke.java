@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.operator.pathpaint;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.operator.Op_s_close_stroke;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -49,8 +50,8 @@ public class PBOp_s_close_stroke extends PBOpStrokePaint implements
 	 */
 	public PBOp_s_close_stroke(List<COSBase> arguments,
 							   final GraphicState state,
-							   final PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
-		super(arguments, state, resources, OP_S_CLOSE_STROKE_TYPE, document, flavour);
+							   final PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		super(arguments, state, resources, OP_S_CLOSE_STROKE_TYPE, context, document, flavour);
 	}
 
 }
@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.operator.shading;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
 import org.verapdf.model.impl.pb.pd.pattern.PBoxPDShading;
 import org.verapdf.model.operator.Op_sh;
@@ -50,13 +51,15 @@ public class PBOp_sh extends PBOperator implements Op_sh {
     private org.apache.pdfbox.pdmodel.graphics.shading.PDShading shading;
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
     public PBOp_sh(List<COSBase> arguments,
-            org.apache.pdfbox.pdmodel.graphics.shading.PDShading shading, PDDocument document, PDFAFlavour flavour) {
+            org.apache.pdfbox.pdmodel.graphics.shading.PDShading shading, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(arguments, OP_SH_TYPE);
         this.shading = shading;
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -73,7 +76,7 @@ public class PBOp_sh extends PBOperator implements Op_sh {
         if (this.shading != null) {
 			List<PDShading> list =
 					new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new PBoxPDShading(this.shading, this.document, this.flavour));
+			list.add(new PBoxPDShading(this.shading, this.context, this.document, this.flavour));
 			return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
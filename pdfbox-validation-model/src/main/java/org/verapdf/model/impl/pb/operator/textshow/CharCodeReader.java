@@ -0,0 +1,131 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.operator.textshow;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Reads character codes of text strings shown with a single font. Codes of
+ * simple fonts and of Type0 fonts with predefined Identity encodings are
+ * read directly from the string bytes without creating objects per code.
+ * Codes of other Type0 fonts are matched against codespace ranges of the
+ * CMap by PDFBox, which allocates on every code, and only the stream over
+ * the string bytes is reused for all strings.
+ * Reader is not thread safe.
+ */
+final class CharCodeReader {
+
+	private static final String IDENTITY_H = "Identity-H";
+	private static final String IDENTITY_V = "Identity-V";
+
+	private static final int SINGLE_BYTE = 0;
+	private static final int TWO_BYTES = 1;
+	private static final int CODESPACE = 2;
+
+	private final PDFont font;
+	private final int mode;
+	private final StringStream stream = new StringStream();
+
+	private byte[] string;
+	private int offset;
+
+	CharCodeReader(PDFont font) {
+		this.font = font;
+		this.mode = getMode(font);
+	}
+
+	/**
+	 * Starts reading of codes of the next string
+	 *
+	 * @param string bytes of the string
+	 */
+	void reset(byte[] string) {
+		this.string = string;
+		this.offset = 0;
+		if (this.mode == CODESPACE) {
+			this.stream.reset(string);
+		}
+	}
+
+	boolean hasNext() {
+		return this.mode == CODESPACE ? this.stream.available() > 0 : this.offset < this.string.length;
+	}
+
+	int next() throws IOException {
+		switch (this.mode) {
+			case SINGLE_BYTE:
+				return this.string[this.offset++] & 0xFF;
+			case TWO_BYTES:
+				if (this.string.length - this.offset >= 2) {
+					int code = ((this.string[this.offset] & 0xFF) << 8) | (this.string[this.offset + 1] & 0xFF);
+					this.offset += 2;
+					return code;
+				}
+				// incomplete code at the end of the string is handled by PDFBox
+				this.stream.reset(this.string, this.offset);
+				this.offset = this.string.length;
+				return this.font.readCode(this.stream);
+			default:
+				return this.font.readCode(this.stream);
+		}
+	}
+
+	private static int getMode(PDFont font) {
+		if (font instanceof PDSimpleFont) {
+			return SINGLE_BYTE;
+		}
+		COSBase encoding = font.getCOSObject().getDictionaryObject(COSName.ENCODING);
+		if (encoding instanceof COSName) {
+			String name = ((COSName) encoding).getName();
+			if (IDENTITY_H.equals(name) || IDENTITY_V.equals(name)) {
+				return TWO_BYTES;
+			}
+		}
+		return CODESPACE;
+	}
+
+	/**
+	 * Byte array stream that can be pointed to another array
+	 */
+	private static final class StringStream extends ByteArrayInputStream {
+
+		StringStream() {
+			super(new byte[0]);
+		}
+
+		void reset(byte[] string) {
+			reset(string, 0);
+		}
+
+		void reset(byte[] string, int offset) {
+			this.buf = string;
+			this.pos = offset;
+			this.count = string.length;
+			this.mark = offset;
+		}
+	}
+}
@@ -21,6 +21,7 @@
 package org.verapdf.model.impl.pb.operator.textshow;
 
 import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.verapdf.model.impl.pb.containers.ToUnicodeTable;
 import org.verapdf.model.operator.CIDGlyph;
 
 /**
@@ -30,13 +31,19 @@ public class PBCIDGlyph extends PBGlyph implements CIDGlyph {
 
 	public final static String CID_GLYPH_TYPE = "CIDGlyph";
 
-	private int CID;
+	private final int CID;
 
 	public PBCIDGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode, int CID, int renderingMode) {
 		super(glyphPresent, widthsConsistent, font, glyphCode, CID_GLYPH_TYPE, renderingMode);
 		this.CID = CID;
 	}
 
+	public PBCIDGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode,
+					  ToUnicodeTable.Entry unicodeEntry, int CID, int renderingMode) {
+		super(glyphPresent, widthsConsistent, font, glyphCode, unicodeEntry, CID_GLYPH_TYPE, renderingMode);
+		this.CID = CID;
+	}
+
 	@Override
 	public Long getCID() {
 		return Long.valueOf(CID);
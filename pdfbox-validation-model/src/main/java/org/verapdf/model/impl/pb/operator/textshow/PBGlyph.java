@@ -20,74 +20,54 @@
  */
 package org.verapdf.model.impl.pb.operator.textshow;
 
-import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.pdmodel.font.PDFont;
-import org.apache.pdfbox.pdmodel.font.PDSimpleFont;
-import org.apache.pdfbox.pdmodel.font.PDType0Font;
-import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
 import org.verapdf.model.GenericModelObject;
+import org.verapdf.model.impl.pb.containers.ToUnicodeTable;
 import org.verapdf.model.operator.Glyph;
 import org.verapdf.model.tools.IDGenerator;
 
-import java.io.IOException;
-
 /**
  * @author Timur Kamalov
  */
 public class PBGlyph extends GenericModelObject implements Glyph {
 
-	private static final Logger LOGGER = Logger.getLogger(PBGlyph.class);
-
 	public final static String GLYPH_TYPE = "Glyph";
 
-	private static final int[] UNICODE_PRIVATE_USE_AREA_ARRAY = {0xE000, 0xF8FF, 0xF0000, 0xFFFFD, 0x100000, 0x10FFFD};
-
 	private final String id;
 
-	private Boolean glyphPresent;
-	private Boolean widthsConsistent;
-	private String name;
-	private String toUnicode;
-	private Long renderingMode;
+	private final Boolean glyphPresent;
+	private final Boolean widthsConsistent;
+	private final ToUnicodeTable.Entry unicodeEntry;
+	private final Long renderingMode;
 
 	public PBGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode, int renderingMode) {
 		this(glyphPresent, widthsConsistent, font, glyphCode, GLYPH_TYPE, renderingMode);
 	}
 
 	public PBGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode, String type, int renderingMode) {
+		this(glyphPresent, widthsConsistent, font, glyphCode, ToUnicodeTable.createEntry(font, glyphCode), type,
+				renderingMode);
+	}
+
+	/**
+	 * @param unicodeEntry unicode value and name of the glyph, shared by
+	 *                     all glyphs of the font with the same code
+	 */
+	public PBGlyph(Boolean glyphPresent, Boolean widthsConsistent, PDFont font, int glyphCode,
+				   ToUnicodeTable.Entry unicodeEntry, String type, int renderingMode) {
 		super(type);
 		this.glyphPresent = glyphPresent;
 		this.widthsConsistent = widthsConsistent;
 		this.renderingMode = Long.valueOf(renderingMode);
 
-		if (font instanceof PDSimpleFont) {
-			Encoding encoding = ((PDSimpleFont) font).getEncoding();
-			this.name = encoding == null ? null : encoding.getName(glyphCode);
-		} else if (font instanceof PDType0Font){
-			try {
-				if (((PDType0Font) font).codeToGID(glyphCode) == 0) {
-					this.name = ".notdef";
-				} else {
-					this.name = null;
-				}
-			} catch (IOException e) {
-				LOGGER.debug("Can't convert code to glyph",e);
-				this.name = null;
-			}
-		}
-
-		try {
-			this.toUnicode = font.toUnicode(glyphCode);
-		} catch (IOException e) {
-			LOGGER.debug(e);
-			this.toUnicode = null;
-		}
+		this.unicodeEntry = unicodeEntry;
 		this.id = IDGenerator.generateID(font.getCOSObject().hashCode(), font.getName(), glyphCode, renderingMode);
 	}
 
 	@Override
 	public String getname() {
-		return this.name;
+		return this.unicodeEntry.getName();
 	}
 
 	@Override
@@ -97,7 +77,7 @@ public class PBGlyph extends GenericModelObject implements Glyph {
 
 	@Override
 	public String gettoUnicode() {
-		return this.toUnicode;
+		return this.unicodeEntry.getToUnicode();
 	}
 
 	@Override
@@ -117,21 +97,7 @@ public class PBGlyph extends GenericModelObject implements Glyph {
 
 	@Override
 	public Boolean getunicodePUA() {
-		if (toUnicode == null) {
-			return false;
-		}
-		for (int i = 0; i < toUnicode.length(); ++i) {
-			int unicode = this.toUnicode.codePointAt(0);
-			if ((unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[0] &&
-					unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[1]) ||
-					(unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[2] &&
-							unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[3]) ||
-					(unicode >= UNICODE_PRIVATE_USE_AREA_ARRAY[4] &&
-							unicode <= UNICODE_PRIVATE_USE_AREA_ARRAY[5])){
-				return true;
-			}
-		}
-		return false;
+		return Boolean.valueOf(this.unicodeEntry.isUnicodePUA());
 	}
 
 	@Override
@@ -139,4 +105,44 @@ public class PBGlyph extends GenericModelObject implements Glyph {
 		// actual text obtaining should be implemented
 		return Boolean.FALSE;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Key of the glyph in the document cache. Glyph properties are the same
+	 * for the same code of the font shown with the same rendering mode, and
+	 * fonts are compared by identity of their dictionary.
+	 */
+	public static final class CacheKey {
+
+		private final COSDictionary font;
+		private final int code;
+		private final int renderingMode;
+
+		public CacheKey(COSDictionary font, int code, int renderingMode) {
+			this.font = font;
+			this.code = code;
+			this.renderingMode = renderingMode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey that = (CacheKey) o;
+			return this.code == that.code
+					&& this.renderingMode == that.renderingMode
+					&& this.font == that.font;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(this.font);
+			result = 31 * result + this.code;
+			result = 31 * result + this.renderingMode;
+			return result;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosString;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosString;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -45,8 +46,8 @@ public abstract class PBOpStringTextShow extends PBOpTextShow {
     public static final String SHOW_STRING = "showString";
 
     protected PBOpStringTextShow(List<COSBase> arguments, GraphicState state,
-                                 PDInheritableResources resources, final String opType, PDDocument document, PDFAFlavour flavour) {
-        super(arguments, state, resources, opType, document, flavour);
+                                 PDInheritableResources resources, final String opType, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        super(arguments, state, resources, opType, context, document, flavour);
     }
 
     @Override
@@ -65,7 +66,7 @@ public abstract class PBOpStringTextShow extends PBOpTextShow {
 			if (base instanceof COSString) {
 				List<CosString> string =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				string.add(new PBCosString((COSString) base));
+				string.add(PBCosString.valueOf((COSString) base));
 				return Collections.unmodifiableList(string);
 			}
 		}
@@ -20,14 +20,10 @@
  */
 package org.verapdf.model.impl.pb.operator.textshow;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSArray;
@@ -46,6 +42,11 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
 import org.verapdf.model.factory.font.FontFactory;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.containers.FontWidthsTable;
+import org.verapdf.model.impl.pb.containers.GlyphPresenceTable;
+import org.verapdf.model.impl.pb.containers.ToUnicodeTable;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
 import org.verapdf.model.operator.OpTextShow;
 import org.verapdf.model.pdlayer.PDColorSpace;
@@ -78,6 +79,7 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 	private final PDInheritableResources resources;
 
 	protected final PDDocument document;
+	protected final DocumentContext context;
 	protected final PDFAFlavour flavour;
 
 	private List<PDFont> fonts = null;
@@ -85,11 +87,12 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 	private List<PDColorSpace> strokeCS = null;
 
 	protected PBOpTextShow(List<COSBase> arguments, GraphicState state, PDInheritableResources resources,
-			final String opType, PDDocument document, PDFAFlavour flavour) {
+			final String opType, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(arguments, opType);
 		this.state = state;
 		this.resources = resources;
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -125,7 +128,7 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 
 	private List<PDFont> parseFont() {
 		PDFont font = FontFactory.parseFont(getFontFromResources(), this.state.getRenderingMode(), this.resources,
-				this.document, this.flavour);
+				this.context, this.document, this.flavour);
 		if (font != null) {
 			List<PDFont> result = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			result.add(font);
@@ -136,37 +139,34 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 
 	private List<PBGlyph> getUsedGlyphs() {
 		org.apache.pdfbox.pdmodel.font.PDFont font = getFontFromResources();
-		FontContainer<? extends PDFontLike> fontContainer = FontHelper.getFontContainer(font);
+		FontContainer<? extends PDFontLike> fontContainer = FontHelper.getFontContainer(font, context);
 
 		if (fontContainer == null) {
 			return Collections.emptyList();
 		}
         boolean fontProgramIsInvalid = font.isDamaged() || fontProgramIsNull(font);
+		FontWidthsTable widths = context.getFontWidths(font.getCOSObject());
+		ToUnicodeTable unicode = context.getToUnicode(font);
+		GlyphPresenceTable glyphPresence = FontHelper.getGlyphPresence(font, context);
+		int renderingMode = this.state.getRenderingMode().intValue();
+		CountingCache<PBGlyph.CacheKey, PBGlyph> cachedGlyphs = context.getCachedGlyphs();
 
 		List<PBGlyph> res = new ArrayList<>();
 		List<byte[]> strings = getStrings(this.arguments);
+		CharCodeReader reader = new CharCodeReader(font);
 		for (byte[] string : strings) {
-			try (InputStream inputStream = new ByteArrayInputStream(string)) {
-				while (inputStream.available() > 0) {
-					int code = font.readCode(inputStream);
-					Boolean glyphPresent = null;
-					Boolean widthsConsistent = null ;
-					if(!fontProgramIsInvalid) {
-						// every font contains notdef glyph. But if we call method
-						// of font container we can't distinguish case of code 0
-						// and glyph that is not present indeed.
-						glyphPresent = code == 0 ? true :
-								Boolean.valueOf(fontContainer.hasGlyph(code));
-						widthsConsistent = Boolean.valueOf(this.checkWidths(code));
-					}
-					PBGlyph glyph;
-					if (font.getSubType().equals(FontFactory.TYPE_0)) {
-						int CID = ((PDType0Font) font).codeToCID(code);
-						glyph = new PBCIDGlyph(glyphPresent, widthsConsistent, font, code, CID,
-								this.state.getRenderingMode().intValue());
-					} else {
-						glyph = new PBGlyph(glyphPresent, widthsConsistent, font, code,
-								this.state.getRenderingMode().intValue());
+			try {
+				reader.reset(string);
+				while (reader.hasNext()) {
+					int code = reader.next();
+					// glyphs are immutable and depend only on font, code and
+					// rendering mode, so all operators share one instance
+					PBGlyph.CacheKey key = new PBGlyph.CacheKey(font.getCOSObject(), code, renderingMode);
+					PBGlyph glyph = cachedGlyphs.get(key);
+					if (glyph == null) {
+						glyph = createGlyph(font, fontContainer, glyphPresence, widths, unicode, fontProgramIsInvalid,
+								code, renderingMode);
+						cachedGlyphs.put(key, glyph);
 					}
 					res.add(glyph);
 				}
@@ -178,6 +178,48 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 		return res;
 	}
 
+	private PBGlyph createGlyph(org.apache.pdfbox.pdmodel.font.PDFont font,
+								FontContainer<? extends PDFontLike> fontContainer, GlyphPresenceTable glyphPresence,
+								FontWidthsTable widths, ToUnicodeTable unicode, boolean fontProgramIsInvalid,
+								int code, int renderingMode)
+			throws IOException {
+		Boolean glyphPresent = null;
+		Boolean widthsConsistent = null ;
+		if(!fontProgramIsInvalid) {
+			// every font contains notdef glyph. But if we call method
+			// of font container we can't distinguish case of code 0
+			// and glyph that is not present indeed.
+			glyphPresent = code == 0 ? Boolean.TRUE : hasGlyph(fontContainer, glyphPresence, code);
+			widthsConsistent = Boolean.valueOf(widths.isConsistent(font, code));
+		}
+		ToUnicodeTable.Entry unicodeEntry = unicode.getEntry(font, code);
+		if (font.getSubType().equals(FontFactory.TYPE_0)) {
+			int CID = ((PDType0Font) font).codeToCID(code);
+			return new PBCIDGlyph(glyphPresent, widthsConsistent, font, code, unicodeEntry, CID, renderingMode);
+		}
+		return new PBGlyph(glyphPresent, widthsConsistent, font, code, unicodeEntry, PBGlyph.GLYPH_TYPE,
+				renderingMode);
+	}
+
+	private static Boolean hasGlyph(FontContainer<? extends PDFontLike> fontContainer,
+									GlyphPresenceTable glyphPresence, int code) {
+		if (glyphPresence != null) {
+			Boolean present = glyphPresence.isPresent(code);
+			if (present != null) {
+				return present;
+			}
+		}
+		boolean present;
+		// container is shared by all operators of the document
+		synchronized (fontContainer) {
+			present = fontContainer.hasGlyph(code);
+		}
+		if (glyphPresence != null) {
+			glyphPresence.setPresent(code, present);
+		}
+		return Boolean.valueOf(present);
+	}
+
 	private List<PDColorSpace> getFillColorSpace() {
 		if (this.fillCS == null) {
 			this.fillCS = parseFillColorSpace();
@@ -190,16 +232,25 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 	 */
 	public byte[] getCharCodes() {
 		List<byte[]> strings = PBOpTextShow.getStrings(this.arguments);
-		Set<Byte> resSet = new HashSet<>();
+		// one bit per possible byte value
+		long[] usedCodes = new long[4];
+		int size = 0;
 		for (byte[] string : strings) {
 			for (byte b : string) {
-				resSet.add(Byte.valueOf(b));
+				int code = b & 0xFF;
+				long bit = 1L << code;
+				if ((usedCodes[code >>> 6] & bit) == 0) {
+					usedCodes[code >>> 6] |= bit;
+					++size;
+				}
 			}
 		}
-		byte[] res = new byte[resSet.size()];
+		byte[] res = new byte[size];
 		int i = 0;
-		for (Byte b : resSet) {
-			res[i++] = b.byteValue();
+		for (int code = 0; code < 256; ++code) {
+			if ((usedCodes[code >>> 6] & (1L << code)) != 0) {
+				res[i++] = (byte) code;
+			}
 		}
 		return res;
 	}
@@ -250,7 +301,7 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 	private List<PDColorSpace> getColorSpace(org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace usedColorSpace,
 			PDAbstractPattern pattern, boolean op) {
 		PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(usedColorSpace, pattern, this.resources,
-				this.state.getOpm(), op, this.document, this.flavour);
+				this.state.getOpm(), op, this.context, this.document, this.flavour);
 		if (colorSpace != null) {
 			List<PDColorSpace> colorSpaces = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			colorSpaces.add(colorSpace);
@@ -259,14 +310,6 @@ public abstract class PBOpTextShow extends PBOperator implements OpTextShow {
 		return Collections.emptyList();
 	}
 
-	private boolean checkWidths(int glyphCode) throws IOException {
-		org.apache.pdfbox.pdmodel.font.PDFont font = getFontFromResources();
-		float expectedWidth = font.getWidth(glyphCode);
-		float foundWidth = font.getWidthFromFont(glyphCode);
-		// consistent is defined to be a difference of no more than 1/1000 unit.
-		return Math.abs(foundWidth - expectedWidth) <= 1;
-	}
-
 	private static List<byte[]> getStrings(List<COSBase> argList) {
 		if (!argList.isEmpty()) {
 			List<byte[]> res = new ArrayList<>();
@@ -30,6 +30,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosNumber;
 import org.verapdf.model.operator.Op_DoubleQuote;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -60,8 +61,8 @@ public class PBOp_DoubleQuote extends PBOpStringTextShow implements
 	/** Number of operands */
 	public static final int COUNT_OF_OPERATOR_OPERANDS = 3;
 
-	public PBOp_DoubleQuote(List<COSBase> arguments, GraphicState state, PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
-		super(arguments, state, resources, OP_DOUBLIE_QUOTE_TYPE, document, flavour);
+	public PBOp_DoubleQuote(List<COSBase> arguments, GraphicState state, PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		super(arguments, state, resources, OP_DOUBLIE_QUOTE_TYPE, context, document, flavour);
 	}
 
 	@Override
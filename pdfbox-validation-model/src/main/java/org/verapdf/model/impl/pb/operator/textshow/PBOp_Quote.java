@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.operator.textshow;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.operator.Op_Quote;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -39,7 +40,7 @@ public class PBOp_Quote extends PBOpStringTextShow implements Op_Quote {
 	/** Type name for {@code PBOp_Quote} */
     public static final String OP_QUOTE_TYPE = "Op_Quote";
 
-    public PBOp_Quote(List<COSBase> arguments, GraphicState state, PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
-        super(arguments, state, resources, OP_QUOTE_TYPE, document, flavour);
+    public PBOp_Quote(List<COSBase> arguments, GraphicState state, PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        super(arguments, state, resources, OP_QUOTE_TYPE, context, document, flavour);
     }
 }
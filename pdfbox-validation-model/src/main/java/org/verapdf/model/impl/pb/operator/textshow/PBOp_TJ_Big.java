@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosArray;
 import org.verapdf.model.factory.operator.GraphicState;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosArray;
 import org.verapdf.model.operator.Op_TJ_Big;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -50,8 +51,8 @@ public class PBOp_TJ_Big extends PBOpTextShow implements Op_TJ_Big {
     public static final String SPECIAL_STRINGS = "specialStrings";
 
     public PBOp_TJ_Big(List<COSBase> arguments, GraphicState state,
-                       PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
-        super(arguments, state, resources, OP_TJ_BIG_TYPE, document, flavour);
+                       PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        super(arguments, state, resources, OP_TJ_BIG_TYPE, context, document, flavour);
     }
 
     @Override
@@ -70,7 +71,7 @@ public class PBOp_TJ_Big extends PBOpTextShow implements Op_TJ_Big {
 			if (base instanceof COSArray) {
 				List<CosArray> array =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				array.add(new PBCosArray((COSArray) base, this.document, this.flavour));
+				array.add(new PBCosArray((COSArray) base, this.context, this.document, this.flavour));
 				return Collections.unmodifiableList(array);
 			}
 		}
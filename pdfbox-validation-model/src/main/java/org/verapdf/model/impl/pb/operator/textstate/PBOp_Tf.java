@@ -67,7 +67,7 @@ public class PBOp_Tf extends PBOpTextState implements Op_Tf {
 			COSBase base = this.arguments.get(this.arguments.size() - 2);
 			if (base instanceof COSName) {
 				List<CosName> names = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				names.add(new PBCosName((COSName) base));
+				names.add(PBCosName.valueOf((COSName) base));
 				return Collections.unmodifiableList(names);
 			}
 		}
@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.operator.xobject;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.operator.base.PBOperator;
 import org.verapdf.model.impl.pb.pd.images.PBoxPDXObject;
 import org.verapdf.model.operator.Op_Do;
@@ -50,6 +51,7 @@ public class PBOp_Do extends PBOperator implements Op_Do {
 	private List<PDXObject> xObjects = null;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
     private final org.apache.pdfbox.pdmodel.graphics.PDXObject pbXObject;
@@ -58,12 +60,13 @@ public class PBOp_Do extends PBOperator implements Op_Do {
     public PBOp_Do(List<COSBase> arguments,
             org.apache.pdfbox.pdmodel.graphics.PDXObject pbXObject,
 			PDInheritableResources resources,
-				   PDDocument document,
+				   DocumentContext context, PDDocument document,
 				   PDFAFlavour flavour) {
         super(arguments, OP_DO_TYPE);
         this.pbXObject = pbXObject;
 		this.resources = resources;
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
     }
 
@@ -81,7 +84,7 @@ public class PBOp_Do extends PBOperator implements Op_Do {
 	public List<PDXObject> getXObject() {
 		if (this.xObjects == null) {
 			PDXObject typedPDXObject = PBoxPDXObject.getTypedPDXObject(
-					this.pbXObject, this.resources, this.document, this.flavour);
+					this.pbXObject, this.resources, this.context, this.document, this.flavour);
 			if (typedPDXObject != null) {
 				List<PDXObject> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 				list.add(typedPDXObject);
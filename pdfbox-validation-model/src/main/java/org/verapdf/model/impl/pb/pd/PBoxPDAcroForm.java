@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdmodel.interactive.form.PDField;
 import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosObject;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosArray;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.impl.pb.pd.signatures.PBoxPDSignatureField;
@@ -51,13 +52,15 @@ public class PBoxPDAcroForm extends PBoxPDObject implements PDAcroForm {
 	private final boolean needAppearance;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
     public PBoxPDAcroForm(
-            org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm acroForm, PDDocument document, PDFAFlavour flavour) {
+            org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm acroForm, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(acroForm, ACRO_FORM_TYPE);
 		this.needAppearance = acroForm.getNeedAppearances();
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
     }
 
@@ -31,6 +31,7 @@ import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceEntry;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceStream;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosNumber;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDAction;
 import org.verapdf.model.pdlayer.PDAction;
@@ -75,12 +76,13 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 	private final Double height;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	private List<PDContentStream> appearance = null;
 	private boolean containsTransparency = false;
 
-	public PBoxPDAnnot(PDAnnotation annot, PDResources pageResources, PDDocument document, PDFAFlavour flavour) {
+	public PBoxPDAnnot(PDAnnotation annot, PDResources pageResources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(annot, ANNOTATION_TYPE);
 		this.pageResources = pageResources;
 		this.subtype = annot.getSubtype();
@@ -96,6 +98,7 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 		this.width = PBoxPDAnnot.getWidth(annot);
 		this.height = PBoxPDAnnot.getHeight(annot);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -386,7 +389,7 @@ public class PBoxPDAnnot extends PBoxPDObject implements PDAnnot {
 		if (toAdd != null) {
 			PDInheritableResources resources = PDInheritableResources.getInstance(this.pageResources,
 					toAdd.getResources());
-			PBoxPDContentStream stream = new PBoxPDContentStream(toAdd, resources, this.document, this.flavour);
+			PBoxPDContentStream stream = new PBoxPDContentStream(toAdd, resources, this.context, this.document, this.flavour);
 			this.containsTransparency |= stream.isContainsTransparency();
 			org.apache.pdfbox.pdmodel.graphics.form.PDGroup group = toAdd.getGroup();
 			this.containsTransparency |= group != null && COSName.TRANSPARENCY.equals(group.getSubType());
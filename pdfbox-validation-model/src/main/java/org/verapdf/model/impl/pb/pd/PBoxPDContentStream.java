@@ -26,6 +26,7 @@ import org.apache.pdfbox.pdfparser.PDFStreamParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.operator.OperatorFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.operator.Operator;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -53,14 +54,16 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 	private boolean containsTransparency = false;
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
 	public PBoxPDContentStream(
 			org.apache.pdfbox.contentstream.PDContentStream contentStream,
-			PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
+			PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(contentStream, CONTENT_STREAM_TYPE);
 		this.resources = resources;
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
 	}
 
@@ -80,13 +83,17 @@ public class PBoxPDContentStream extends PBoxPDObject implements
     }
 
 	/**
+	 * Obtains transparency of this content stream. Transparency is computed
+	 * in the same pass that converts operators, so the stream is parsed once
+	 * whichever of them is requested first.
+	 *
 	 * @return true if this content stream contains transparency
 	 */
 	public boolean isContainsTransparency() {
 		if (this.operators == null) {
 			parseOperators();
 		}
-		return containsTransparency;
+		return this.containsTransparency;
 	}
 
 	private void parseOperators() {
@@ -95,11 +102,9 @@ public class PBoxPDContentStream extends PBoxPDObject implements
 			if (cStream != null) {
 				PDFStreamParser streamParser = new PDFStreamParser(
 						cStream, true);
-				streamParser.parse();
 				OperatorFactory operatorFactory = new OperatorFactory();
-				List<Operator> result = operatorFactory.operatorsFromTokens(
-						streamParser.getTokens(),
-						this.resources, this.document, this.flavour);
+				List<Operator> result = operatorFactory.operatorsFromStream(
+						streamParser, this.resources, this.context, this.document, this.flavour);
 
 				this.containsTransparency = operatorFactory.isLastParsedContainsTransparency();
 				this.operators = Collections.unmodifiableList(result);
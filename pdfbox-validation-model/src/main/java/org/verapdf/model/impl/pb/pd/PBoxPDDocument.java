@@ -33,6 +33,7 @@ import org.apache.pdfbox.pdmodel.graphics.optionalcontent.PDOptionalContentPrope
 import org.apache.pdfbox.pdmodel.interactive.action.PDDocumentCatalogAdditionalActions;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosLang;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosLang;
 import org.verapdf.model.impl.pb.pd.signatures.PBoxPDPerms;
 import org.verapdf.model.pdlayer.*;
@@ -119,10 +120,12 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 	/**
 	 * Default constructor
 	 *
+	 * @param context  containers shared by model objects of the document
 	 * @param document high level document representation
 	 */
-	public PBoxPDDocument(org.apache.pdfbox.pdmodel.PDDocument document, PDFAFlavour flavour) {
-		super(document, PD_DOCUMENT_TYPE);
+	public PBoxPDDocument(DocumentContext context, org.apache.pdfbox.pdmodel.PDDocument document,
+			PDFAFlavour flavour) {
+		super(context, document, PD_DOCUMENT_TYPE);
 		this.catalog = this.document.getDocumentCatalog();
 		this.flavour = flavour;
 	}
@@ -226,7 +229,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 		PDPageTree pageTree = this.document.getPages();
 		List<PDPage> pages = new ArrayList<>(pageTree.getCount());
 		for (org.apache.pdfbox.pdmodel.PDPage page : pageTree) {
-			pages.add(new PBoxPDPage(page, this.document, this.flavour));
+			pages.add(new PBoxPDPage(page, this.context, this.document, this.flavour));
 		}
 		return Collections.unmodifiableList(pages);
 	}
@@ -236,7 +239,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 			org.apache.pdfbox.pdmodel.common.PDMetadata meta = this.catalog.getMetadata();
 			if (meta != null && PBoxPDMetadata.isMetadataObject(meta.getCOSObject())) {
 				List<PDMetadata> metadata = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				metadata.add(new PBoxPDMetadata(meta, Boolean.TRUE, this.document, this.flavour));
+				metadata.add(new PBoxPDMetadata(meta, Boolean.TRUE, this.context, this.document, this.flavour));
 				return Collections.unmodifiableList(metadata);
 			}
 		}
@@ -249,7 +252,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 					this.catalog.getOutputIntents();
 			List<PDOutputIntent> outputIntents = new ArrayList<>(pdfboxOutputIntents.size());
 			for (org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent intent : pdfboxOutputIntents) {
-				outputIntents.add(new PBoxPDOutputIntent(intent, this.document, this.flavour));
+				outputIntents.add(new PBoxPDOutputIntent(intent, this.context, this.document, this.flavour));
 			}
 			return Collections.unmodifiableList(outputIntents);
 		}
@@ -262,7 +265,7 @@ public class PBoxPDDocument extends PBoxPDObject implements PDDocument {
 					this.catalog.getAcroForm();
 			if (form != null) {
 				List<PDAcroForm> forms = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				forms.add(new PBoxPDAcroForm(form, this.document, this.flavour));
+				forms.add(new PBoxPDAcroForm(form, this.context, this.document, this.flavour));
 				return Collections.unmodifiableList(forms);
 			}
 		}
@@ -29,6 +29,7 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosNumber;
 import org.verapdf.model.coslayer.CosObject;
 import org.verapdf.model.coslayer.CosRenderingIntent;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosNumber;
 import org.verapdf.model.impl.pb.cos.PBCosObject;
 import org.verapdf.model.impl.pb.cos.PBCosRenderingIntent;
@@ -61,9 +62,10 @@ public class PBoxPDExtGState extends PBoxPDResources implements PDExtGState {
 	private final Double CA;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
-    public PBoxPDExtGState(PDExtendedGraphicsState state, PDDocument document, PDFAFlavour flavour) {
+    public PBoxPDExtGState(PDExtendedGraphicsState state, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(state, EXT_G_STATE_TYPE);
 		this.tr = PBoxPDExtGState.getStringProperty(state, COSName.TR);
 		this.tr2 = PBoxPDExtGState.getStringProperty(state, COSName.getPDFName("TR2"));
@@ -72,6 +74,7 @@ public class PBoxPDExtGState extends PBoxPDResources implements PDExtGState {
 		this.ca = PBoxPDExtGState.getDoubleProperty(state, COSName.CA_NS);
 		this.CA = PBoxPDExtGState.getDoubleProperty(state, COSName.CA);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
     }
 
@@ -24,6 +24,7 @@ import org.apache.log4j.Logger;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDGroup;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -45,12 +46,14 @@ public class PBoxPDGroup extends PBoxPDObject implements PDGroup {
 	public static final String COLOR_SPACE = "colorSpace";
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	public PBoxPDGroup(
-			org.apache.pdfbox.pdmodel.graphics.form.PDGroup simplePDObject, PDDocument document, PDFAFlavour flavour) {
+			org.apache.pdfbox.pdmodel.graphics.form.PDGroup simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, GROUP_TYPE);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -73,7 +76,7 @@ public class PBoxPDGroup extends PBoxPDObject implements PDGroup {
 		try {
 			org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace pbColorSpace =
 					((org.apache.pdfbox.pdmodel.graphics.form.PDGroup) this.simplePDObject).getColorSpace();
-			PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(pbColorSpace, this.document, this.flavour);
+			PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(pbColorSpace, this.context, this.document, this.flavour);
 			if (colorSpace != null) {
 				List<PDColorSpace> colorSpaces = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 				colorSpaces.add(colorSpace);
@@ -32,7 +32,9 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
 import org.verapdf.model.impl.axl.AXLMainXMPPackage;
 import org.verapdf.model.impl.axl.AXLXMPPackage;
-import org.verapdf.model.impl.pb.cos.PBCosStream;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.containers.XMPCache;
+import org.verapdf.model.impl.pb.cos.PBCosObject;
 import org.verapdf.model.pdlayer.PDMetadata;
 import org.verapdf.model.xmplayer.XMPPackage;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -59,8 +61,10 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 	private PDFAFlavour flavour;
 
 	public PBoxPDMetadata(org.apache.pdfbox.pdmodel.common.PDMetadata simplePDObject, Boolean isMainMetadata,
-			PDDocument document, PDFAFlavour flavour) {
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, METADATA_TYPE);
+		this.document = document;
+		this.context = context;
 		this.isMainMetadata = isMainMetadata.booleanValue();
 		if (document != null && document.getDocumentCatalog() != null
 				&& document.getDocumentCatalog().getMetadata() != null) {
@@ -101,7 +105,8 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 		try {
 			COSStream stream = ((org.apache.pdfbox.pdmodel.common.PDMetadata) this.simplePDObject).getStream();
 			if (stream != null) {
-				VeraPDFMeta metadata = VeraPDFMeta.parse(stream.getUnfilteredStream());
+				XMPCache xmpCache = this.context.getXMPCache();
+				VeraPDFMeta metadata = xmpCache.getMetadata(stream);
 				if (isMainMetadata) {
 					xmp.add(new AXLMainXMPPackage(metadata, true, this.flavour));
 				} else if (this.flavour == null || this.flavour.getPart() == null
@@ -109,7 +114,7 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 					COSStream mainStream = mainMetadata.getStream();
 					VeraPDFXMPNode mainExtensionNode = null;
 					if (mainStream != null) {
-						VeraPDFMeta mainMeta = VeraPDFMeta.parse(mainStream.getUnfilteredStream());
+						VeraPDFMeta mainMeta = xmpCache.getMetadata(mainStream);
 						mainExtensionNode = mainMeta.getExtensionSchemasNode();
 					}
 					xmp.add(new AXLXMPPackage(metadata, true, mainExtensionNode, this.flavour));
@@ -130,9 +135,12 @@ public class PBoxPDMetadata extends PBoxPDObject implements PDMetadata {
 	private List<CosStream> getStream() {
 		COSStream stream = ((org.apache.pdfbox.pdmodel.common.PDMetadata) this.simplePDObject).getStream();
 		if (stream != null) {
-			List<CosStream> streams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			streams.add(new PBCosStream(stream, this.document, this.flavour));
-			return Collections.unmodifiableList(streams);
+			CosStream cosStream = (CosStream) PBCosObject.getFromValue(stream, this.context, this.document, this.flavour);
+			if (cosStream != null) {
+				List<CosStream> streams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
+				streams.add(cosStream);
+				return Collections.unmodifiableList(streams);
+			}
 		}
 		return Collections.emptyList();
 	}
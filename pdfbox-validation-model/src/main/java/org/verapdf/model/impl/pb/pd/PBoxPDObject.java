@@ -32,6 +32,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.common.COSObjectable;
 import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.verapdf.model.GenericModelObject;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.actions.PBoxPDAction;
 import org.verapdf.model.pdlayer.PDAction;
 import org.verapdf.model.pdlayer.PDObject;
@@ -45,6 +46,7 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 
 	protected COSObjectable simplePDObject;
 	protected PDDocument document;
+	protected DocumentContext context;
 	protected PDContentStream contentStream;
 	protected PDFontLike pdFontLike;
 	protected CMap cMap;
@@ -64,9 +66,10 @@ public class PBoxPDObject extends GenericModelObject implements PDObject {
 		}
 	}
 
-	protected PBoxPDObject(PDDocument document, final String type) {
+	protected PBoxPDObject(DocumentContext context, PDDocument document, final String type) {
 		super(type);
 		this.document = document;
+		this.context = context;
 		if (document == null)
 			return;
 
@@ -29,6 +29,7 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosObject;
 import org.verapdf.model.external.ICCOutputProfile;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosObject;
 import org.verapdf.model.impl.pb.external.PBoxICCOutputProfile;
 import org.verapdf.model.pdlayer.PDOutputIntent;
@@ -55,13 +56,15 @@ public class PBoxPDOutputIntent extends PBoxPDObject implements PDOutputIntent {
 	private final String destOutputProfileIndirect;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	public PBoxPDOutputIntent(org.apache.pdfbox.pdmodel.graphics.color.PDOutputIntent simplePDObject,
-			PDDocument document, PDFAFlavour flavour) {
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, OUTPUT_INTENT_TYPE);
 		this.destOutputProfileIndirect = PBoxPDOutputIntent.getDestOutputProfileIndirect(simplePDObject);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -30,6 +30,7 @@ import org.apache.pdfbox.pdmodel.interactive.action.PDPageAdditionalActions;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosBBox;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosBBox;
 import org.verapdf.model.pdlayer.*;
 import org.verapdf.model.tools.resources.PDInheritableResources;
@@ -88,9 +89,10 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 	 *
 	 * @param simplePDObject Apache PDFBox page representation
 	 */
-	public PBoxPDPage(org.apache.pdfbox.pdmodel.PDPage simplePDObject, PDDocument document, PDFAFlavour flavour) {
+	public PBoxPDPage(org.apache.pdfbox.pdmodel.PDPage simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super((COSObjectable) simplePDObject, PAGE_TYPE);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -175,7 +177,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 			org.apache.pdfbox.pdmodel.graphics.form.PDGroup group =
 					new org.apache.pdfbox.pdmodel.graphics.form.PDGroup(
 							(COSDictionary) groupDictionary);
-			groups.add(new PBoxPDGroup(group, this.document, this.flavour));
+			groups.add(new PBoxPDGroup(group, this.context, this.document, this.flavour));
 			return Collections.unmodifiableList(groups);
 		}
 		return Collections.emptyList();
@@ -194,7 +196,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 				(org.apache.pdfbox.pdmodel.PDPage) this.simplePDObject;
 		PDInheritableResources resources = PDInheritableResources
 				.getInstance(page.getInheritedResources(), page.getPageResources());
-		PBoxPDContentStream contentStream = new PBoxPDContentStream(page, resources, this.document, this.flavour);
+		PBoxPDContentStream contentStream = new PBoxPDContentStream(page, resources, this.context, this.document, this.flavour);
 		contentStreams.add(contentStream);
 		this.containsTransparency = contentStream.isContainsTransparency();
 	}
@@ -249,7 +251,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 				this.simplePDObject).getResources();
 		for (PDAnnotation annotation : pdfboxAnnotations) {
 			if (annotation != null) {
-				PBoxPDAnnot annot = new PBoxPDAnnot(annotation, pageResources, this.document, this.flavour);
+				PBoxPDAnnot annot = new PBoxPDAnnot(annotation, pageResources, this.context, this.document, this.flavour);
 				this.containsTransparency |= annot.isContainsTransparency();
 				annotations.add(annot);
 			}
@@ -280,7 +282,7 @@ public class PBoxPDPage extends PBoxPDObject implements PDPage {
 		COSBase array = PDPageTree.getInheritableAttribute((COSDictionary) this.simplePDObject.getCOSObject(), key);
 		if (array instanceof COSArray) {
 			ArrayList<CosBBox> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new PBCosBBox((COSArray) array, this.document, this.flavour));
+			list.add(new PBCosBBox((COSArray) array, this.context, this.document, this.flavour));
 			return Collections.unmodifiableList(list);
 		}
 		return Collections.emptyList();
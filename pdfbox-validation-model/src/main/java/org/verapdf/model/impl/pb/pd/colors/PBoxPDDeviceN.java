@@ -31,6 +31,7 @@ import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceNProcess;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosUnicodeName;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosUnicodeName;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDDeviceN;
@@ -72,13 +73,15 @@ public class PBoxPDDeviceN extends PBoxPDColorSpace implements PDDeviceN {
 	private final boolean areColorantsPresent;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	public PBoxPDDeviceN(
-			org.apache.pdfbox.pdmodel.graphics.color.PDDeviceN simplePDObject, PDDocument document, PDFAFlavour flavour) {
+			org.apache.pdfbox.pdmodel.graphics.color.PDDeviceN simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, DEVICE_N_TYPE);
 		this.areColorantsPresent = PBoxPDDeviceN.areColorantsPresent(simplePDObject);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -148,7 +151,7 @@ public class PBoxPDDeviceN extends PBoxPDColorSpace implements PDDeviceN {
 			org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace = process.getColorSpace();
 			if (colorSpace != null) {
 				return Collections.singletonList(
-						ColorSpaceFactory.getColorSpace(colorSpace, this.document, this.flavour));
+						ColorSpaceFactory.getColorSpace(colorSpace, this.context, this.document, this.flavour));
 			}
 		} catch (IOException e) {
 			LOGGER.debug("Problems with process color space obtain in PDDeviceN.", e);
@@ -162,7 +165,7 @@ public class PBoxPDDeviceN extends PBoxPDColorSpace implements PDDeviceN {
 			org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace alternateColorSpace =
 					((org.apache.pdfbox.pdmodel.graphics.color.PDDeviceN) this.simplePDObject)
 							.getAlternateColorSpace();
-			PDColorSpace space = ColorSpaceFactory.getColorSpace(alternateColorSpace, this.document, this.flavour);
+			PDColorSpace space = ColorSpaceFactory.getColorSpace(alternateColorSpace, this.context, this.document, this.flavour);
 			if (space != null) {
 				List<PDColorSpace> colorSpace = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 				colorSpace.add(space);
@@ -209,7 +212,7 @@ public class PBoxPDDeviceN extends PBoxPDColorSpace implements PDDeviceN {
 				org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace colorSpace =
 						org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace.create(value);
 				if (colorSpace instanceof org.apache.pdfbox.pdmodel.graphics.color.PDSeparation) {
-					list.add((PBoxPDSeparation) ColorSpaceFactory.getColorSpace(colorSpace, this.document, this.flavour));
+					list.add((PBoxPDSeparation) ColorSpaceFactory.getColorSpace(colorSpace, this.context, this.document, this.flavour));
 				}
 			} catch (IOException e) {
 				LOGGER.debug("Problems with color space obtain.", e);
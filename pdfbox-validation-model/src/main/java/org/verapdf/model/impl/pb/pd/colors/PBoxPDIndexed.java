@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.pd.colors;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDIndexed;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -41,12 +42,14 @@ public class PBoxPDIndexed extends PBoxPDColorSpace implements PDIndexed {
     public static final String BASE = "base";
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
     public PBoxPDIndexed(
-            org.apache.pdfbox.pdmodel.graphics.color.PDIndexed simplePDObject, PDDocument document, PDFAFlavour flavour) {
+            org.apache.pdfbox.pdmodel.graphics.color.PDIndexed simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(simplePDObject, INDEXED_TYPE);
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -62,7 +65,7 @@ public class PBoxPDIndexed extends PBoxPDColorSpace implements PDIndexed {
         org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace baseColorSpace =
 				((org.apache.pdfbox.pdmodel.graphics.color.PDIndexed) this.simplePDObject)
                 .getBaseColorSpace();
-        PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(baseColorSpace, this.document, this.flavour);
+        PDColorSpace colorSpace = ColorSpaceFactory.getColorSpace(baseColorSpace, this.context, this.document, this.flavour);
         if (colorSpace != null) {
 			List<PDColorSpace> base = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			base.add(colorSpace);
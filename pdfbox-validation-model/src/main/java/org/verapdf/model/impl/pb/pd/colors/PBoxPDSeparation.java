@@ -23,13 +23,12 @@ package org.verapdf.model.impl.pb.pd.colors;
 import org.apache.pdfbox.cos.COSArray;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
-import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.color.PDSeparation;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosUnicodeName;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosUnicodeName;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -53,63 +52,27 @@ public class PBoxPDSeparation extends PBoxPDColorSpace implements org.verapdf.mo
 	public static final int COLORANT_NAME_POSITION = 1;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	private COSArray colorSpace;
 
 	public PBoxPDSeparation(
-			PDSeparation simplePDObject, PDDocument document, PDFAFlavour flavour) {
+			PDSeparation simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, SEPARATION_TYPE);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 
 		this.colorSpace = (COSArray) simplePDObject.getCOSObject();
 
-		if (StaticContainers.getSeparations().containsKey(simplePDObject.getColorantName())) {
-			StaticContainers.getSeparations().get(simplePDObject.getColorantName()).add(this);
-		} else {
-			final List<PBoxPDSeparation> separationList = new ArrayList<>();
-			separationList.add(this);
-			StaticContainers.getSeparations().put(simplePDObject.getColorantName(), separationList);
-		}
+		this.context.getSeparations().register(simplePDObject.getColorantName(), this.colorSpace, getID());
 	}
 
 	@Override
 	public Boolean getareTintAndAlternateConsistent() {
 		String name = ((PDSeparation) simplePDObject).getColorantName();
-
-		if (StaticContainers.getInconsistentSeparations().contains(name)) {
-			return Boolean.FALSE;
-		}
-
-		if (StaticContainers.getSeparations().get(name).size() > 1) {
-			for (PBoxPDSeparation pBoxPDSeparation : StaticContainers.getSeparations().get(name)) {
-				if (pBoxPDSeparation.equals(this)) {
-					continue;
-				}
-
-				COSArray toCompare = pBoxPDSeparation.colorSpace;
-				COSBase alternateSpaceToCompare = unwrapObject(toCompare.get(2));
-				COSBase tintTransformToCompare = unwrapObject(toCompare.get(3));
-
-				COSBase alternateSpaceCurrent = unwrapObject(colorSpace.get(2));
-				COSBase tintTransformCurrent = unwrapObject(colorSpace.get(3));
-
-				if (!alternateSpaceToCompare.equals(alternateSpaceCurrent) || !tintTransformToCompare.equals(tintTransformCurrent)) {
-					StaticContainers.getInconsistentSeparations().add(name);
-					return Boolean.FALSE;
-				}
-			}
-		}
-
-		return Boolean.TRUE;
-	}
-
-	private static COSBase unwrapObject(COSBase object) {
-		if (object instanceof COSObject) {
-			return ((COSObject) object).getObject();
-		}
-		return object;
+		return Boolean.valueOf(this.context.getSeparations().isConsistent(name));
 	}
 
 	@Override
@@ -131,7 +94,7 @@ public class PBoxPDSeparation extends PBoxPDColorSpace implements org.verapdf.mo
 		org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace space =
 				((org.apache.pdfbox.pdmodel.graphics.color.PDSeparation) this.simplePDObject)
 						.getAlternateColorSpace();
-		PDColorSpace currentSpace = ColorSpaceFactory.getColorSpace(space, this.document, this.flavour);
+		PDColorSpace currentSpace = ColorSpaceFactory.getColorSpace(space, this.context, this.document, this.flavour);
 		if (currentSpace != null) {
 			List<PDColorSpace> colorSpace = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 			colorSpace.add(currentSpace);
@@ -20,8 +20,6 @@
  */
 package org.verapdf.model.impl.pb.pd.font;
 
-import org.apache.fontbox.cff.CFFFont;
-import org.apache.fontbox.ttf.TrueTypeFont;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
@@ -35,8 +33,10 @@ import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosStream;
-import org.verapdf.model.impl.pb.cos.PBCosStream;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.cos.PBCosObject;
 import org.verapdf.model.pdlayer.PDCIDFont;
+import org.verapdf.model.tools.FontHelper;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.IOException;
@@ -54,6 +54,7 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 	private static final Logger LOGGER = Logger.getLogger(PBoxPDCIDFont.class);
 
 	private final PDDocument pdDocument;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	public static final String CID_FONT_TYPE = "PDCIDFont";
@@ -63,9 +64,10 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 	public static final String IDENTITY = "Identity";
 	public static final String CUSTOM = "Custom";
 
-	public PBoxPDCIDFont(PDFontLike font, RenderingMode renderingMode, PDDocument document, PDFAFlavour flavour) {
+	public PBoxPDCIDFont(PDFontLike font, RenderingMode renderingMode, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(font, renderingMode, CID_FONT_TYPE);
 		this.pdDocument = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -84,34 +86,48 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 
 	@Override
 	public Boolean getcidSetListsAllGlyphs() {
-			PDStream cidSet = getCIDSetStream();
-			if (cidSet == null) {
-				return Boolean.TRUE;
+		PDStream cidSet = getCIDSetStream();
+		if (cidSet == null) {
+			return Boolean.TRUE;
+		}
+		try {
+			InputStream stream = ((COSStream) cidSet.getCOSObject()).getUnfilteredStream();
+			int length = cidSet.getLength();
+			byte[] cidSetBytes = getCIDsFromCIDSet(stream, length);
+
+			// reverse bit order in bit set (convert to big endian)
+			BitSet bitSet = toBitSetBigEndian(cidSetBytes);
+			bitSet.clear(0);
+			// CIDs below the size of the bit set are checked
+			int cidLimit = bitSet.size();
+
+			org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont = (org.apache.pdfbox.pdmodel.font.PDCIDFont) this.pdFontLike;
+			BitSet glyphs = FontHelper.getCIDGlyphs(cidFont, this.context);
+			if (glyphs == null) {
+				glyphs = getCIDGlyphs(cidFont, cidLimit);
+			} else if (glyphs.length() > cidLimit) {
+				glyphs = glyphs.get(0, cidLimit);
 			}
-			try {
-				InputStream stream = ((COSStream) cidSet.getCOSObject()).getUnfilteredStream();
-				int length = cidSet.getLength();
-				byte[] cidSetBytes = getCIDsFromCIDSet(stream, length);
-
-				// reverse bit order in bit set (convert to big endian)
-				BitSet bitSet = toBitSetBigEndian(cidSetBytes);
-
-				org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont = (org.apache.pdfbox.pdmodel.font.PDCIDFont) this.pdFontLike;
-				for (int i = 1; i < bitSet.size(); i++) {
-					if (bitSet.get(i) && !cidFont.hasGlyph(i)) {
-						return Boolean.FALSE;
-					}
-				}
-				if (!flavour.equals(PDFAFlavour.PDFA_1_A) || !flavour.equals(PDFAFlavour.PDFA_1_B)) {
-					// on this levels we need to ensure that all glyphs
-					// present
-					// in font program are described in cid set
-					for (int i = 1; i < bitSet.size(); ++i) {
-						if (!bitSet.get(i) && cidFont.hasGlyph(i)) {
-							return Boolean.FALSE;
-						}
-					}
+
+			BitSet missing = (BitSet) bitSet.clone();
+			missing.andNot(glyphs);
+			if (!missing.isEmpty()) {
+				return Boolean.FALSE;
+			}
+			// The condition is always true and the check runs for every
+			// flavour. It is kept as is: PDF/A-1 also requires the CIDSet
+			// to identify all CIDs present in the font program, and changing
+			// it would change PDF/A-1 verdicts.
+			if (!flavour.equals(PDFAFlavour.PDFA_1_A) || !flavour.equals(PDFAFlavour.PDFA_1_B)) {
+				// on this levels we need to ensure that all glyphs
+				// present
+				// in font program are described in cid set
+				BitSet unlisted = (BitSet) glyphs.clone();
+				unlisted.andNot(bitSet);
+				if (!unlisted.isEmpty()) {
+					return Boolean.FALSE;
 				}
+			}
 		} catch (IOException e) {
 			LOGGER.debug("Error while parsing embedded font program. " + e.getMessage(), e);
 			return Boolean.FALSE;
@@ -119,6 +135,21 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 		return Boolean.TRUE;
 	}
 
+	/**
+	 * Checks CIDs below the limit one by one through PDFBox, used for fonts
+	 * whose program can not be read directly.
+	 */
+	private static BitSet getCIDGlyphs(org.apache.pdfbox.pdmodel.font.PDCIDFont cidFont, int limit)
+			throws IOException {
+		BitSet glyphs = new BitSet(limit);
+		for (int i = 1; i < limit; ++i) {
+			if (cidFont.hasGlyph(i)) {
+				glyphs.set(i);
+			}
+		}
+		return glyphs;
+	}
+
 	@Override
 	public List<? extends Object> getLinkedObjects(String link) {
 		if (CID_SET.equals(link)) {
@@ -130,9 +161,13 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 	private List<CosStream> getCIDSet() {
 		PDStream cidSet = getCIDSetStream();
 		if (cidSet != null) {
-			List<CosStream> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			res.add(new PBCosStream(cidSet.getStream(), this.pdDocument, this.flavour));
-			return Collections.unmodifiableList(res);
+			CosStream stream = (CosStream) PBCosObject.getFromValue(cidSet.getStream(), this.context,
+					this.pdDocument, this.flavour);
+			if (stream != null) {
+				List<CosStream> res = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
+				res.add(stream);
+				return Collections.unmodifiableList(res);
+			}
 		}
 		return Collections.emptyList();
 	}
@@ -156,17 +191,11 @@ public class PBoxPDCIDFont extends PBoxPDFont implements PDCIDFont {
 	}
 
 	private static BitSet toBitSetBigEndian(byte[] source) {
-		BitSet bitSet = new BitSet(source.length * 8);
-		int i = 0;
-		for (int j = 0; j < source.length; j++) {
-			int b = source[j] >= 0 ? source[j] : 256 + source[j];
-			for (int k = 0; k < 8; k++) {
-				bitSet.set(i++, (b & 0x80) != 0);
-				b = b << 1;
-			}
+		byte[] reversed = new byte[source.length];
+		for (int i = 0; i < source.length; i++) {
+			reversed[i] = (byte) (Integer.reverse(source[i]) >>> 24);
 		}
-
-		return bitSet;
+		return BitSet.valueOf(reversed);
 	}
 
 }
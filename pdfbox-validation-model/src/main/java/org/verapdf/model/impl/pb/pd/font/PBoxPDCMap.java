@@ -21,13 +21,13 @@
 package org.verapdf.model.impl.pb.pd.font;
 
 import org.apache.fontbox.cmap.CMap;
-import org.apache.fontbox.cmap.CMapParser;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSStream;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.external.CMapFile;
+import org.verapdf.model.impl.pb.containers.CMapCache;
 import org.verapdf.model.impl.pb.external.PBoxCMapFile;
 import org.verapdf.model.impl.pb.pd.PBoxPDObject;
 import org.verapdf.model.pdlayer.PDCMap;
@@ -88,15 +88,14 @@ public class PBoxPDCMap extends PBoxPDObject implements PDCMap {
         if (this.simplePDObject instanceof COSStream) {
             COSBase useCMap = ((COSStream) this.simplePDObject).getDictionaryObject(USE_C_MAP);
             try {
-                CMapParser cMapParser = new CMapParser();
                 PDReferencedCMap pBoxPDCMap = null;
                 CMap pdfboxCMap;
 
                 if (useCMap instanceof COSName) {
-                    pdfboxCMap = cMapParser.parsePredefined(((COSName) useCMap).getName());
+                    pdfboxCMap = CMapCache.getPredefinedCMap(((COSName) useCMap).getName());
                     pBoxPDCMap = new PBoxPDReferencedCMap(pdfboxCMap, null);
                 } else if (useCMap instanceof COSStream) {
-                    pdfboxCMap = cMapParser.parse(((COSStream) useCMap).getUnfilteredStream());
+                    pdfboxCMap = CMapCache.getCMap((COSStream) useCMap);
                     pBoxPDCMap = new PBoxPDReferencedCMap(pdfboxCMap, (COSStream) useCMap);
                 }
 
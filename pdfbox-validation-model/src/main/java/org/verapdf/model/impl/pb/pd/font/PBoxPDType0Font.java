@@ -30,6 +30,7 @@ import org.apache.pdfbox.pdmodel.font.PDCIDSystemInfo;
 import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDCIDFont;
 import org.verapdf.model.pdlayer.PDCMap;
 import org.verapdf.model.pdlayer.PDType0Font;
@@ -50,11 +51,13 @@ public class PBoxPDType0Font extends PBoxPDFont implements PDType0Font {
     public static final String ENCODING = "Encoding";
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
-	public PBoxPDType0Font(PDFontLike font, RenderingMode renderingMode, PDDocument document, PDFAFlavour flavour) {
+	public PBoxPDType0Font(PDFontLike font, RenderingMode renderingMode, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 	    super(font, renderingMode, TYPE_0_FONT_TYPE);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -145,7 +148,7 @@ public class PBoxPDType0Font extends PBoxPDFont implements PDType0Font {
                 .getDescendantFont();
         if (pdcidFont != null) {
 			List<PDCIDFont> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new PBoxPDCIDFont(pdcidFont, this.renderingMode, this.document, this.flavour));
+			list.add(new PBoxPDCIDFont(pdcidFont, this.renderingMode, this.context, this.document, this.flavour));
 			return Collections.unmodifiableList(list);
         }
         return Collections.emptyList();
@@ -29,6 +29,7 @@ import org.apache.pdfbox.pdmodel.font.PDType3CharProc;
 import org.apache.pdfbox.pdmodel.font.encoding.Encoding;
 import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDType3Font;
@@ -49,15 +50,17 @@ public class PBoxPDType3Font extends PBoxPDSimpleFont implements PDType3Font {
 	private final PDInheritableResources resources;
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
 	private Map<String, PDContentStream> charStrings = null;
 
 	public PBoxPDType3Font(PDFontLike font, RenderingMode renderingMode, PDInheritableResources resources,
-			PDDocument document, PDFAFlavour flavour) {
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(font, renderingMode, TYPE3_FONT_TYPE);
 		this.resources = resources;
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -100,7 +103,7 @@ public class PBoxPDType3Font extends PBoxPDSimpleFont implements PDType3Font {
 			for (COSName cosName : keySet) {
 				PDType3CharProc charProc = ((org.apache.pdfbox.pdmodel.font.PDType3Font) this.pdFontLike)
 						.getCharProc(cosName);
-				PBoxPDContentStream pdContentStream = new PBoxPDContentStream(charProc, this.resources, this.document,
+				PBoxPDContentStream pdContentStream = new PBoxPDContentStream(charProc, this.resources, this.context, this.document,
 						this.flavour);
 				map.put(cosName.getName(), pdContentStream);
 			}
@@ -30,6 +30,7 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosIIFilter;
 import org.verapdf.model.coslayer.CosRenderingIntent;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosIIFilter;
 import org.verapdf.model.impl.pb.cos.PBCosRenderingIntent;
 import org.verapdf.model.impl.pb.pd.PBoxPDObject;
@@ -54,11 +55,13 @@ public class PBoxPDInlineImage extends PBoxPDObject implements PDInlineImage {
 	public static final String INLINE_IMAGE_TYPE = "PDInlineImage";
 
 	private final PDDocument document;
+	private final DocumentContext context;
 	private final PDFAFlavour flavour;
 
-	public PBoxPDInlineImage(org.apache.pdfbox.pdmodel.graphics.image.PDInlineImage simplePDObject, PDDocument document, PDFAFlavour flavour) {
+	public PBoxPDInlineImage(org.apache.pdfbox.pdmodel.graphics.image.PDInlineImage simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, INLINE_IMAGE_TYPE);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -134,7 +137,7 @@ public class PBoxPDInlineImage extends PBoxPDObject implements PDInlineImage {
 		try {
 			PDColorSpace buffer = ColorSpaceFactory
 					.getColorSpace(((PDImage) this.simplePDObject)
-							.getColorSpace(), this.document, this.flavour);
+							.getColorSpace(), this.context, this.document, this.flavour);
 			if (buffer != null) {
 				List<PDColorSpace> colorSpaces =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.pd.images;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObjectProxy;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDSMaskImage;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -38,8 +39,8 @@ public class PBoxPDSMaskImage extends PBoxPDXImage implements PDSMaskImage {
 	public static final String SMASK_IMAGE_TYPE = "PDSMaskImage";
 
 	public PBoxPDSMaskImage(PDImageXObjectProxy simplePDObject, PDInheritableResources resources,
-							PDDocument document, PDFAFlavour flavour) {
-		super(simplePDObject, resources, SMASK_IMAGE_TYPE, document, flavour);
+							DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		super(simplePDObject, resources, SMASK_IMAGE_TYPE, context, document, flavour);
 	}
 
 	@Override
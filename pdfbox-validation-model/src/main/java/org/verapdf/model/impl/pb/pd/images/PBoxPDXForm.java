@@ -23,12 +23,15 @@ package org.verapdf.model.impl.pb.pd.images;
 import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDict;
 import org.verapdf.model.coslayer.CosStream;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosStream;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.impl.pb.pd.PBoxPDGroup;
@@ -58,9 +61,35 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 	private boolean groupContainsTransparency = false;
 	private boolean contentStreamContainsTransparency = false;
 
-	public PBoxPDXForm(PDFormXObject simplePDObject, PDInheritableResources resources, PDDocument document,
+	public PBoxPDXForm(PDFormXObject simplePDObject, PDInheritableResources resources, DocumentContext context, PDDocument document,
 			PDFAFlavour flavour) {
-		super(simplePDObject, resources, X_FORM_TYPE, document, flavour);
+		super(simplePDObject, resources, X_FORM_TYPE, context, document, flavour);
+	}
+
+	/**
+	 * Obtains form XObject from the document cache, so the content stream of
+	 * form that is painted many times is parsed and checked for transparency
+	 * only once.
+	 *
+	 * @param form      form XObject
+	 * @param resources resources of the form extended by the resources of
+	 *                  the painting content stream
+	 * @return cached form XObject or newly created one
+	 */
+	public static PBoxPDXForm getInstance(PDFormXObject form, PDInheritableResources resources,
+										  DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		COSObjectKey objectKey = form.getCOSStream().getKey();
+		if (objectKey == null) {
+			return new PBoxPDXForm(form, resources, context, document, flavour);
+		}
+		CacheKey key = new CacheKey(objectKey, resources.getInheritedResources().getCOSObject(), form.isInherited());
+		CountingCache<CacheKey, PBoxPDXForm> cache = context.getCachedXForms();
+		PBoxPDXForm result = cache.get(key);
+		if (result == null) {
+			result = new PBoxPDXForm(form, resources, context, document, flavour);
+			cache.put(key, result);
+		}
+		return result;
 	}
 
 	@Override
@@ -122,7 +151,7 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 		if (group != null) {
 			this.groupContainsTransparency = COSName.TRANSPARENCY.equals(group.getSubType());
 			List<PDGroup> groupsToAdd = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			groupsToAdd.add(new PBoxPDGroup(group, this.document, this.flavour));
+			groupsToAdd.add(new PBoxPDGroup(group, this.context, this.document, this.flavour));
 			this.groups = Collections.unmodifiableList(groupsToAdd);
 		} else {
 			this.groups = Collections.emptyList();
@@ -132,7 +161,7 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 	private void parseContentStream() {
 		List<PDContentStream> streams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		PBoxPDContentStream pdContentStream = new PBoxPDContentStream((PDFormXObject) this.simplePDObject,
-				this.resources, this.document, this.flavour);
+				this.resources, this.context, this.document, this.flavour);
 		this.contentStreamContainsTransparency = pdContentStream.isContainsTransparency();
 		streams.add(pdContentStream);
 		this.contentStreams = streams;
@@ -152,4 +181,44 @@ public class PBoxPDXForm extends PBoxPDXObject implements PDXForm {
 
 		return groupContainsTransparency || contentStreamContainsTransparency;
 	}
+
+	/**
+	 * Key of the form XObject in the document cache. Form content is the
+	 * same for the same object key, and resources inherited from painting
+	 * content stream are compared by identity of their dictionary.
+	 */
+	public static final class CacheKey {
+
+		private final COSObjectKey objectKey;
+		private final COSDictionary inheritedResources;
+		private final boolean isInherited;
+
+		CacheKey(COSObjectKey objectKey, COSDictionary inheritedResources, boolean isInherited) {
+			this.objectKey = objectKey;
+			this.inheritedResources = inheritedResources;
+			this.isInherited = isInherited;
+		}
+
+		@Override
+		public boolean equals(java.lang.Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey that = (CacheKey) o;
+			return this.isInherited == that.isInherited
+					&& this.inheritedResources == that.inheritedResources
+					&& this.objectKey.equals(that.objectKey);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.objectKey.hashCode();
+			result = 31 * result + System.identityHashCode(this.inheritedResources);
+			result = 31 * result + (this.isInherited ? 1 : 0);
+			return result;
+		}
+	}
 }
@@ -30,6 +30,7 @@ import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosRenderingIntent;
 import org.verapdf.model.external.JPEG2000;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosRenderingIntent;
 import org.verapdf.model.impl.pb.external.PBoxJPEG2000;
 import org.verapdf.model.pdlayer.PDColorSpace;
@@ -62,13 +63,13 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 	private PDColorSpace colorSpaceFromImage = null;
 
 	public PBoxPDXImage(PDImageXObjectProxy simplePDObject, PDInheritableResources resources,
-						PDDocument document, PDFAFlavour flavour) {
-		this(simplePDObject, resources, X_IMAGE_TYPE, document, flavour);
+						DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		this(simplePDObject, resources, X_IMAGE_TYPE, context, document, flavour);
 	}
 
 	protected PBoxPDXImage(PDImageXObjectProxy simplePDObject, PDInheritableResources resources,
-						   String type, PDDocument document, PDFAFlavour flavour) {
-		super(simplePDObject, resources, type, document, flavour);
+						   String type, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+		super(simplePDObject, resources, type, context, document, flavour);
 		this.interpolate = simplePDObject.getInterpolate();
 	}
 
@@ -119,7 +120,7 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 		if (!image.isStencil()) {
 			try {
 				PDColorSpace buffer = ColorSpaceFactory.getColorSpace(image.getColorSpace(),
-						null, resources, 0, false, this.document, this.flavour);
+						null, resources, 0, false, this.context, this.document, this.flavour);
 				if (buffer == null) {
 					buffer = this.colorSpaceFromImage;
 				}
@@ -166,7 +167,7 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 
 			final PDStream stream = new PDStream((COSStream) alternatesImages);
 			PDImageXObjectProxy imageXObject = new PDImageXObjectProxy(stream, resourcesToAdd);
-			alternates.add(new PBoxPDXImage(imageXObject, resources, this.document, this.flavour));
+			alternates.add(new PBoxPDXImage(imageXObject, resources, this.context, this.document, this.flavour));
 		}
 	}
 
@@ -186,7 +187,7 @@ public class PBoxPDXImage extends PBoxPDXObject implements PDXImage {
 				// encoded
 				try (InputStream image = stream.getStream().getFilteredStream()) {
 					ArrayList<JPEG2000> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-					PBoxJPEG2000 jpeg2000 = PBoxJPEG2000.fromStream(image, this.document, this.flavour);
+					PBoxJPEG2000 jpeg2000 = PBoxJPEG2000.fromStream(image, this.context, this.document, this.flavour);
 					this.colorSpaceFromImage = jpeg2000.getImageColorSpace();
 					list.add(jpeg2000);
 					return Collections.unmodifiableList(list);
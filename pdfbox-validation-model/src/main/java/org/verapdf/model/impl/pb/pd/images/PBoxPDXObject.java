@@ -33,7 +33,8 @@ import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObjectProxy;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDict;
-import org.verapdf.model.impl.pb.cos.PBCosDict;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.cos.PBCosObject;
 import org.verapdf.model.impl.pb.pd.PBoxPDResources;
 import org.verapdf.model.pdlayer.PDSMaskImage;
 import org.verapdf.model.pdlayer.PDXObject;
@@ -53,6 +54,7 @@ public class PBoxPDXObject extends PBoxPDResources implements PDXObject {
 	private static final Logger LOGGER = Logger.getLogger(PBoxPDXObject.class);
 
 	protected final PDDocument document;
+	protected final DocumentContext context;
 	protected final PDFAFlavour flavour;
 
 	public static final String X_OBJECT_TYPE = "PDXObject";
@@ -63,17 +65,18 @@ public class PBoxPDXObject extends PBoxPDResources implements PDXObject {
 	protected final PDInheritableResources resources;
 	private final String subtype;
 
-	public PBoxPDXObject(org.apache.pdfbox.pdmodel.graphics.PDXObject simplePDObject, PDDocument document,
+	public PBoxPDXObject(org.apache.pdfbox.pdmodel.graphics.PDXObject simplePDObject, DocumentContext context, PDDocument document,
 			PDFAFlavour flavour) {
-		this(simplePDObject, PDInheritableResources.EMPTY_EXTENDED_RESOURCES, X_OBJECT_TYPE, document, flavour);
+		this(simplePDObject, PDInheritableResources.EMPTY_EXTENDED_RESOURCES, X_OBJECT_TYPE, context, document, flavour);
 	}
 
 	protected PBoxPDXObject(COSObjectable simplePDObject, PDInheritableResources resources, final String type,
-			PDDocument document, PDFAFlavour flavour) {
+			DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, type);
 		this.resources = resources;
 		this.subtype = PBoxPDXObject.getSubtype((org.apache.pdfbox.pdmodel.graphics.PDXObject) this.simplePDObject);
 		this.document = document;
+		this.context = context;
 		this.flavour = flavour;
 	}
 
@@ -140,23 +143,23 @@ public class PBoxPDXObject extends PBoxPDResources implements PDXObject {
 		org.apache.pdfbox.pdmodel.graphics.PDXObject pbObject = org.apache.pdfbox.pdmodel.graphics.PDXObject
 				.createXObject(smaskDictionary, nameAsString, resourcesLocal);
 		if (pbObject instanceof PDImageXObjectProxy) {
-			return new PBoxPDSMaskImage((PDImageXObjectProxy) pbObject, resources, document, flavour);
+			return new PBoxPDSMaskImage((PDImageXObjectProxy) pbObject, resources, context, document, flavour);
 		}
 		LOGGER.debug("SMask object is not an Image XObject");
 		return null;
 	}
 
 	public static PDXObject getTypedPDXObject(org.apache.pdfbox.pdmodel.graphics.PDXObject pbObject,
-			PDInheritableResources extendedResources, PDDocument document, PDFAFlavour flavour) {
+			PDInheritableResources extendedResources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		if (pbObject instanceof PDFormXObject) {
 			PDFormXObject object = (PDFormXObject) pbObject;
 			PDInheritableResources resources = extendedResources.getExtendedResources(object.getResources());
-			return new PBoxPDXForm(object, resources, document, flavour);
+			return PBoxPDXForm.getInstance(object, resources, context, document, flavour);
 		} else if (pbObject instanceof PDImageXObjectProxy) {
 			return new PBoxPDXImage((PDImageXObjectProxy) pbObject, extendedResources,
-					document, flavour);
+					context, document, flavour);
 		} else if (pbObject instanceof PDPostScriptXObject) {
-			return new PBoxPDXObject(pbObject, document, flavour);
+			return new PBoxPDXObject(pbObject, context, document, flavour);
 		} else {
 			return null;
 		}
@@ -166,9 +169,12 @@ public class PBoxPDXObject extends PBoxPDResources implements PDXObject {
 		COSDictionary object = ((org.apache.pdfbox.pdmodel.graphics.PDXObject) this.simplePDObject).getCOSStream();
 		COSBase item = object.getDictionaryObject(COSName.getPDFName(key));
 		if (item instanceof COSDictionary) {
-			List<CosDict> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-			list.add(new PBCosDict((COSDictionary) item, this.document, this.flavour));
-			return Collections.unmodifiableList(list);
+			CosDict dict = (CosDict) PBCosObject.getFromValue(item, this.context, this.document, this.flavour);
+			if (dict != null) {
+				List<CosDict> list = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
+				list.add(dict);
+				return Collections.unmodifiableList(list);
+			}
 		}
 		return Collections.emptyList();
 	}
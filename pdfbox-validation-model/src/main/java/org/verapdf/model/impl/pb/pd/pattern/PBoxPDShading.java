@@ -24,6 +24,7 @@ import org.apache.log4j.Logger;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.factory.colors.ColorSpaceFactory;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDResources;
 import org.verapdf.model.pdlayer.PDColorSpace;
 import org.verapdf.model.pdlayer.PDShading;
@@ -46,12 +47,14 @@ public class PBoxPDShading extends PBoxPDResources implements PDShading {
     public static final String COLOR_SPACE = "colorSpace";
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
     public PBoxPDShading(
-            org.apache.pdfbox.pdmodel.graphics.shading.PDShading simplePDObject, PDDocument document, PDFAFlavour flavour) {
+            org.apache.pdfbox.pdmodel.graphics.shading.PDShading simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(simplePDObject, SHADING_TYPE);
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -71,7 +74,7 @@ public class PBoxPDShading extends PBoxPDResources implements PDShading {
             if (cs != null) {
 				List<PDColorSpace> colorSpaces =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				colorSpaces.add(ColorSpaceFactory.getColorSpace(cs, this.document, this.flavour));
+				colorSpaces.add(ColorSpaceFactory.getColorSpace(cs, this.context, this.document, this.flavour));
 				return Collections.unmodifiableList(colorSpaces);
             }
         } catch (IOException e) {
@@ -23,6 +23,7 @@ package org.verapdf.model.impl.pb.pd.pattern;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDShading;
 import org.verapdf.model.pdlayer.PDShadingPattern;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
@@ -46,12 +47,14 @@ public class PBoxPDShadingPattern extends PBoxPDPattern implements
     public static final String SHADING = "shading";
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
 	public PBoxPDShadingPattern(
-            org.apache.pdfbox.pdmodel.graphics.pattern.PDShadingPattern simplePDObject, PDDocument document, PDFAFlavour flavour) {
+            org.apache.pdfbox.pdmodel.graphics.pattern.PDShadingPattern simplePDObject, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         super(simplePDObject, SHADING_PATTERN_TYPE);
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
@@ -71,7 +74,7 @@ public class PBoxPDShadingPattern extends PBoxPDPattern implements
             if (shading != null) {
 				List<PDShading> shadings =
 						new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
-				shadings.add(new PBoxPDShading(shading, this.document, this.flavour));
+				shadings.add(new PBoxPDShading(shading, this.context, this.document, this.flavour));
 				return Collections.unmodifiableList(shadings);
             }
         } catch (IOException e) {
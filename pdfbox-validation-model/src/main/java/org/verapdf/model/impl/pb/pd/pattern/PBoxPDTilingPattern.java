@@ -22,6 +22,7 @@ package org.verapdf.model.impl.pb.pd.pattern;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.pdlayer.PDContentStream;
 import org.verapdf.model.pdlayer.PDTilingPattern;
@@ -43,6 +44,7 @@ public class PBoxPDTilingPattern extends PBoxPDPattern implements
 	private final PDInheritableResources resources;
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
 	private List<PDContentStream> contentStreams = null;
@@ -50,10 +52,11 @@ public class PBoxPDTilingPattern extends PBoxPDPattern implements
 
 	public PBoxPDTilingPattern(
 			org.apache.pdfbox.pdmodel.graphics.pattern.PDTilingPattern simplePDObject,
-			PDInheritableResources resources, PDDocument document, PDFAFlavour flavour) {
+			PDInheritableResources resources, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
 		super(simplePDObject, TILING_PATTERN_TYPE);
 		this.resources = resources;
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
 	}
 
@@ -86,7 +89,7 @@ public class PBoxPDTilingPattern extends PBoxPDPattern implements
 	private void parseContentStream() {
 		List<PDContentStream> contentStreams = new ArrayList<>(MAX_NUMBER_OF_ELEMENTS);
 		PBoxPDContentStream contentStream = new PBoxPDContentStream(
-				(org.apache.pdfbox.contentstream.PDContentStream) this.simplePDObject, this.resources, this.document, this.flavour);
+				(org.apache.pdfbox.contentstream.PDContentStream) this.simplePDObject, this.resources, this.context, this.document, this.flavour);
 		this.containsTransparency |= contentStream.isContainsTransparency();
 		contentStreams.add(contentStream);
 		this.contentStreams = contentStreams;
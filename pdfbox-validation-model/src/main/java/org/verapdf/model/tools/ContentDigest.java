@@ -0,0 +1,208 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.tools;
+
+import org.apache.pdfbox.cos.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * SHA-256 digest of the content of pdf box objects. Objects are compared
+ * by value: indirect references are resolved, dictionary keys are sorted
+ * and streams are digested in decoded form, or as stored in the file
+ * together with their filters, so equal objects of different documents
+ * have equal digests. Digests are used as keys of caches shared between
+ * documents.
+ */
+public final class ContentDigest {
+
+	private static final String ALGORITHM = "SHA-256";
+	private static final int BUFFER_SIZE = 8192;
+
+	private final byte[] digest;
+	private final int hashCode;
+
+	private ContentDigest(byte[] digest) {
+		this.digest = digest;
+		this.hashCode = Arrays.hashCode(digest);
+	}
+
+	/**
+	 * Computes digest of the given objects
+	 *
+	 * @param objects pdf box objects, {@code null} values are allowed
+	 * @return digest of the objects
+	 * @throws IOException when some stream can not be decoded
+	 */
+	public static ContentDigest of(COSBase... objects) throws IOException {
+		return of(true, objects);
+	}
+
+	/**
+	 * Computes digest of the given objects without decoding their streams.
+	 * Stream data is digested as stored in the file, filters and decode
+	 * parameters are part of the stream dictionary.
+	 *
+	 * @param objects pdf box objects, {@code null} values are allowed
+	 * @return digest of the objects
+	 * @throws IOException when some stream can not be read
+	 */
+	public static ContentDigest ofEncoded(COSBase... objects) throws IOException {
+		return of(false, objects);
+	}
+
+	private static ContentDigest of(boolean decode, COSBase... objects) throws IOException {
+		MessageDigest messageDigest = newMessageDigest();
+		Set<COSBase> path = Collections.newSetFromMap(new IdentityHashMap<COSBase, Boolean>());
+		for (COSBase object : objects) {
+			update(messageDigest, object, path, decode);
+		}
+		return new ContentDigest(messageDigest.digest());
+	}
+
+	/**
+	 * Computes digest of the given data
+	 *
+	 * @param data bytes to digest
+	 * @return digest of the data
+	 */
+	public static ContentDigest of(byte[] data) {
+		return new ContentDigest(newMessageDigest().digest(data));
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			// every java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, COSBase base, Set<COSBase> path, boolean decode)
+			throws IOException {
+		COSBase object = base instanceof COSObject ? ((COSObject) base).getObject() : base;
+		if (object == null || object instanceof COSNull) {
+			digest.update((byte) 'n');
+		} else if (object instanceof COSName) {
+			digest.update((byte) '/');
+			updateString(digest, ((COSName) object).getName());
+		} else if (object instanceof COSInteger) {
+			digest.update((byte) 'i');
+			updateString(digest, String.valueOf(((COSInteger) object).longValue()));
+		} else if (object instanceof COSFloat) {
+			digest.update((byte) 'f');
+			updateString(digest, String.valueOf(((COSFloat) object).floatValue()));
+		} else if (object instanceof COSBoolean) {
+			digest.update((byte) (((COSBoolean) object).getValue() ? 't' : 'b'));
+		} else if (object instanceof COSString) {
+			digest.update((byte) 's');
+			updateBytes(digest, ((COSString) object).getBytes());
+		} else if (!path.add(object)) {
+			// reference cycle
+			digest.update((byte) 'c');
+		} else {
+			if (object instanceof COSArray) {
+				COSArray array = (COSArray) object;
+				digest.update((byte) '[');
+				for (int i = 0; i < array.size(); ++i) {
+					update(digest, array.get(i), path, decode);
+				}
+				digest.update((byte) ']');
+			} else if (object instanceof COSDictionary) {
+				updateDictionary(digest, (COSDictionary) object, path, decode);
+				if (object instanceof COSStream) {
+					updateStream(digest, (COSStream) object, decode);
+				}
+			}
+			path.remove(object);
+		}
+	}
+
+	private static void updateDictionary(MessageDigest digest, COSDictionary dictionary, Set<COSBase> path,
+			boolean decode) throws IOException {
+		List<String> keys = new ArrayList<>();
+		for (COSName key : dictionary.keySet()) {
+			keys.add(key.getName());
+		}
+		Collections.sort(keys);
+		digest.update((byte) '<');
+		for (String key : keys) {
+			updateString(digest, key);
+			update(digest, dictionary.getItem(COSName.getPDFName(key)), path, decode);
+		}
+		digest.update((byte) '>');
+	}
+
+	private static void updateStream(MessageDigest digest, COSStream stream, boolean decode) throws IOException {
+		digest.update((byte) (decode ? 'S' : 'E'));
+		byte[] buffer = new byte[BUFFER_SIZE];
+		long total = 0;
+		try (InputStream is = decode ? stream.getUnfilteredStream() : stream.getFilteredStream()) {
+			int length;
+			while ((length = is.read(buffer)) != -1) {
+				digest.update(buffer, 0, length);
+				total += length;
+			}
+		}
+		updateString(digest, String.valueOf(total));
+	}
+
+	private static void updateString(MessageDigest digest, String value) {
+		updateBytes(digest, value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void updateBytes(MessageDigest digest, byte[] value) {
+		int length = value.length;
+		digest.update(new byte[] {(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+		digest.update(value);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ContentDigest)) {
+			return false;
+		}
+		return Arrays.equals(this.digest, ((ContentDigest) o).digest);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(this.digest.length * 2);
+		for (byte b : this.digest) {
+			builder.append(String.format("%02x", Integer.valueOf(b & 0xFF)));
+		}
+		return builder.toString();
+	}
+}
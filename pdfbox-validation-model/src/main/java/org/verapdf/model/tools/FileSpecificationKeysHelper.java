@@ -40,7 +40,7 @@ import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceDictionary;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceEntry;
 import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceStream;
-import org.verapdf.model.impl.pb.containers.StaticContainers;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -56,9 +56,18 @@ public class FileSpecificationKeysHelper {
     private static final Logger LOGGER = Logger
             .getLogger(FileSpecificationKeysHelper.class);
 
-    private static Set<COSObjectKey> visitedKeys = new HashSet<>();
+    private final Set<COSObjectKey> fileSpecificationKeys;
+    private final Set<COSObjectKey> visitedKeys = new HashSet<>();
 
-    public static void registerFileSpecificationKeys(PDDocument document) {
+    private FileSpecificationKeysHelper(DocumentContext context) {
+        this.fileSpecificationKeys = context.getFileSpecificationKeys();
+    }
+
+    public static void registerFileSpecificationKeys(PDDocument document, DocumentContext context) {
+        new FileSpecificationKeysHelper(context).registerKeys(document);
+    }
+
+    private void registerKeys(PDDocument document) {
         PDDocumentCatalog catalog = document.getDocumentCatalog();
         if (catalog != null) {
             registerDictionaryAFKeys(catalog.getCOSObject());
@@ -71,10 +80,9 @@ public class FileSpecificationKeysHelper {
                 processPage(page);
             }
         }
-        visitedKeys.clear();
     }
 
-    private static void processStructElements(PDStructureNode structureNode) {
+    private void processStructElements(PDStructureNode structureNode) {
         if (structureNode != null) {
             for (Object obj : structureNode.getKids()) {
                 if (obj instanceof PDStructureElement) {
@@ -86,7 +94,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void processPage(PDPage page) {
+    private void processPage(PDPage page) {
         if (page != null) {
             registerDictionaryAFKeys(page.getCOSObject());
             try {
@@ -105,7 +113,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void processXObject(PDXObject xObject) {
+    private void processXObject(PDXObject xObject) {
         if (xObject == null || isKeyVisited(xObject.getCOSObject().getKey())) {
             return;
         }
@@ -128,7 +136,7 @@ public class FileSpecificationKeysHelper {
 
     }
 
-    private static void processImageAlternates(PDImageXObjectProxy xObject) {
+    private void processImageAlternates(PDImageXObjectProxy xObject) {
         COSBase alternates = ((COSDictionary) xObject.getCOSObject()).getDictionaryObject(COSName.getPDFName("Alternates"));
         if (alternates instanceof COSArray) {
             for (COSBase obj : (COSArray) alternates) {
@@ -142,7 +150,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static List<PDAppearanceStream> getAllAppearances(PDAnnotation annotation) {
+    private List<PDAppearanceStream> getAllAppearances(PDAnnotation annotation) {
         List<PDAppearanceStream> res = new ArrayList<>();
         if (annotation != null) {
             PDAppearanceDictionary appearance = annotation.getAppearance();
@@ -155,7 +163,7 @@ public class FileSpecificationKeysHelper {
         return res;
     }
 
-    private static void addAllAppearances(PDAppearanceEntry appearance, List<PDAppearanceStream> list) {
+    private void addAllAppearances(PDAppearanceEntry appearance, List<PDAppearanceStream> list) {
         if (appearance == null) {
             return;
         }
@@ -173,7 +181,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void registerDictionaryAFKeys(COSDictionary dictionary) {
+    private void registerDictionaryAFKeys(COSDictionary dictionary) {
         if (dictionary == null) {
             return;
         }
@@ -185,7 +193,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void processExtGState(PDExtendedGraphicsState extGState) {
+    private void processExtGState(PDExtendedGraphicsState extGState) {
         if (extGState == null || isKeyVisited(extGState.getCOSObject().getKey())) {
             return;
         }
@@ -199,13 +207,13 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void processFont(PDFont font) {
+    private void processFont(PDFont font) {
         if (font instanceof PDType3Font && !isKeyVisited(font.getCOSObject().getKey())) {
             parseResources(((PDType3Font) font).getResources());
         }
     }
 
-    private static void processPattern(PDAbstractPattern pattern) {
+    private void processPattern(PDAbstractPattern pattern) {
         if (pattern == null || isKeyVisited(pattern.getCOSObject().getKey())) {
             return;
         }
@@ -216,7 +224,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void parseResources(PDResources resources) {
+    private void parseResources(PDResources resources) {
         if (resources != null && !isKeyVisited(resources.getCOSObject().getKey())) {
             parseResourcesXObjects(resources);
             parseResourcesExtGState(resources);
@@ -225,7 +233,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void parseResourcesPatterns(PDResources resources) {
+    private void parseResourcesPatterns(PDResources resources) {
         for (COSName name : resources.getPatternNames()) {
             try {
                 PDAbstractPattern pattern = resources.getPattern(name);
@@ -236,14 +244,14 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void parseResourcesExtGState(PDResources resources) {
+    private void parseResourcesExtGState(PDResources resources) {
         for (COSName name : resources.getExtGStateNames()) {
             PDExtendedGraphicsState extGState = resources.getExtGState(name);
             processExtGState(extGState);
         }
     }
 
-    private static void parseResourcesXObjects(PDResources resources) {
+    private void parseResourcesXObjects(PDResources resources) {
         for (COSName name : resources.getXObjectNames()) {
             try {
                 PDXObject xObject = resources.getXObject(name);
@@ -254,7 +262,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void parseResourcesFonts(PDResources resources) {
+    private void parseResourcesFonts(PDResources resources) {
         for (COSName name : resources.getFontNames()) {
             try {
                 PDFont font = resources.getFont(name);
@@ -265,7 +273,7 @@ public class FileSpecificationKeysHelper {
         }
     }
 
-    private static void addElementKey(COSBase element) {
+    private void addElementKey(COSBase element) {
         COSBase base = element;
         while (base instanceof COSObject) {
             base = ((COSObject) base).getObject();
@@ -273,16 +281,16 @@ public class FileSpecificationKeysHelper {
         if (base != null) {
             COSObjectKey key = base.getKey();
             if (key != null) {
-                StaticContainers.getFileSpecificationKeys().add(key);
+                this.fileSpecificationKeys.add(key);
             }
         }
     }
 
-    private static boolean isKeyVisited(COSObjectKey key) {
-        if (visitedKeys.contains(key)) {
+    private boolean isKeyVisited(COSObjectKey key) {
+        if (this.visitedKeys.contains(key)) {
             return true;
         }
-        visitedKeys.add(key);
+        this.visitedKeys.add(key);
         return false;
     }
 
@@ -20,10 +20,27 @@
  */
 package org.verapdf.model.tools;
 
+import org.apache.fontbox.cff.CFFCIDFont;
+import org.apache.fontbox.cff.CFFCharset;
+import org.apache.fontbox.cff.CFFFont;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.log4j.Logger;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.pdmodel.font.*;
 import org.apache.pdfbox.preflight.font.container.*;
 import org.verapdf.model.factory.font.FontFactory;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.containers.GlyphPresenceCache;
+import org.verapdf.model.impl.pb.containers.GlyphPresenceTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.BitSet;
 
 /**
  * Class for transforming Apache PDFBox font to
@@ -33,11 +50,16 @@ import org.verapdf.model.factory.font.FontFactory;
  */
 public class FontHelper {
 
+	private static final Logger LOGGER = Logger.getLogger(FontHelper.class);
+
 	/** CID font type 0 value of Subtype entry for type 0 font */
 	public static final String CID_FONT_TYPE_0 = "CIDFontType0";
 	/** CID font type 1 value of Subtype entry for type 0 font */
 	public static final String CID_FONT_TYPE_2 = "CIDFontType2";
 
+	/** Maximal CID, CIDs are two byte values */
+	public static final int MAX_CID = 0xFFFF;
+
 	/**
 	 * Transform Apache PDFBox font to Apache Preflight
 	 * font container representation
@@ -57,26 +79,203 @@ public class FontHelper {
 				return new TrueTypeContainer((PDTrueTypeFont) font);
 			case FontFactory.TYPE_3:
 				return new Type3Container((PDType3Font) font);
-			case FontFactory.TYPE_0: {
-				Type0Container container = new Type0Container(font);
-				PDCIDFont pdcidFont = ((PDType0Font) font)
-						.getDescendantFont();
-				String cidType = pdcidFont.getCOSObject()
-						.getNameAsString(COSName.SUBTYPE);
-				if (CID_FONT_TYPE_0.equals(cidType)) {
-					CIDType0Container type0Container =
-							new CIDType0Container((PDCIDFontType0) pdcidFont);
-					container.setDelegateFontContainer(type0Container);
-				} else if (CID_FONT_TYPE_2.equals(cidType)) {
-					CIDType2Container type2Container =
-							new CIDType2Container((PDCIDFontType2) pdcidFont);
-					container.setDelegateFontContainer(type2Container);
-				}
-				return container;
-			}
+			case FontFactory.TYPE_0:
+				return getType0Container((PDType0Font) font);
 			default:
 				return null;
 		}
 	}
 
+	/**
+	 * Obtains Apache Preflight font container from the document cache, so
+	 * glyphs of the font are checked once for all text show operators. Font
+	 * containers are not thread safe and must be used under their own lock.
+	 *
+	 * @param font    Apache PDFBox font
+	 * @param context context of the document containing the font
+	 * @return Apache Preflight font container
+	 */
+	public static FontContainer<? extends PDFontLike> getFontContainer(PDFont font, DocumentContext context) {
+		if (font == null) {
+			return null;
+		}
+		CountingCache<COSDictionary, FontContainer<? extends PDFontLike>> cache = context.getFontContainers();
+		COSDictionary key = font.getCOSObject();
+		FontContainer<? extends PDFontLike> container = cache.get(key);
+		if (container == null) {
+			container = getFontContainer(font);
+			if (container != null) {
+				cache.put(key, container);
+			}
+		}
+		return container;
+	}
+
+	/**
+	 * Obtains glyph presence table of the embedded font program from
+	 * {@link GlyphPresenceCache}, shared by all documents embedding the same
+	 * font program with the same mapping of codes to glyphs.
+	 *
+	 * @param font    Apache PDFBox font
+	 * @param context context of the document containing the font
+	 * @return glyph presence table, or {@code null} if the cache is disabled
+	 *         or the font program is not embedded
+	 */
+	public static GlyphPresenceTable getGlyphPresence(PDFont font, DocumentContext context) {
+		if (font == null || !GlyphPresenceCache.isEnabled()) {
+			return null;
+		}
+		COSDictionary fontDictionary = font.getCOSObject();
+		CountingCache<COSDictionary, GlyphPresenceTable> cache = context.getGlyphPresence();
+		GlyphPresenceTable table = cache.get(fontDictionary);
+		if (table == null) {
+			COSDictionary programFont = fontDictionary;
+			COSBase descendants = fontDictionary.getDictionaryObject(COSName.DESCENDANT_FONTS);
+			if (descendants instanceof COSArray && ((COSArray) descendants).size() > 0
+					&& ((COSArray) descendants).getObject(0) instanceof COSDictionary) {
+				programFont = (COSDictionary) ((COSArray) descendants).getObject(0);
+			}
+			COSBase descriptor = programFont.getDictionaryObject(COSName.FONT_DESC);
+			if (!(descriptor instanceof COSDictionary)) {
+				return null;
+			}
+			COSDictionary descriptorDictionary = (COSDictionary) descriptor;
+			COSStream program = getFontProgram(descriptorDictionary);
+			if (program == null) {
+				return null;
+			}
+			try {
+				// font program is digested as stored in the file, it is not decoded
+				ContentDigest digest = ContentDigest.ofEncoded(fontDictionary.getDictionaryObject(COSName.SUBTYPE),
+						fontDictionary.getDictionaryObject(COSName.ENCODING),
+						programFont.getDictionaryObject(COSName.SUBTYPE),
+						programFont.getDictionaryObject(COSName.CID_TO_GID_MAP),
+						descriptorDictionary.getDictionaryObject(COSName.FLAGS),
+						program);
+				table = GlyphPresenceCache.getGlyphPresence(digest);
+			} catch (IOException e) {
+				LOGGER.debug("Can not compute digest of the font program", e);
+				return null;
+			}
+			if (table != null) {
+				cache.put(fontDictionary, table);
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Obtains bitmap of CIDs which have glyphs in the embedded font program
+	 * of the CIDFont. The bitmap is built once per font dictionary from the
+	 * CIDToGIDMap and the number of glyphs for TrueType programs, or from the
+	 * charset for CFF programs. CID 0 and CIDs above {@link #MAX_CID} are never
+	 * set. Returned bitmap must not be modified.
+	 *
+	 * @param font    Apache PDFBox CIDFont
+	 * @param context context of the document containing the font
+	 * @return bitmap of present CIDs, or {@code null} if the font program
+	 *         is not embedded
+	 * @throws IOException when font program or CIDToGIDMap can not be read
+	 */
+	public static BitSet getCIDGlyphs(PDCIDFont font, DocumentContext context) throws IOException {
+		if (font == null) {
+			return null;
+		}
+		CountingCache<COSDictionary, BitSet> cache = context.getCIDGlyphs();
+		COSDictionary key = font.getCOSObject();
+		BitSet glyphs = cache.get(key);
+		if (glyphs == null) {
+			synchronized (font) {
+				if (font instanceof PDCIDFontType2) {
+					glyphs = getCIDType2Glyphs((PDCIDFontType2) font);
+				} else if (font instanceof PDCIDFontType0) {
+					glyphs = getCIDType0Glyphs((PDCIDFontType0) font);
+				}
+			}
+			if (glyphs != null) {
+				cache.put(key, glyphs);
+			}
+		}
+		return glyphs;
+	}
+
+	private static BitSet getCIDType2Glyphs(PDCIDFontType2 font) throws IOException {
+		TrueTypeFont trueTypeFont = font.isEmbedded() ? font.getTrueTypeFont() : null;
+		if (trueTypeFont == null) {
+			return null;
+		}
+		int numberOfGlyphs = trueTypeFont.getNumberOfGlyphs();
+		BitSet glyphs = new BitSet(numberOfGlyphs);
+		COSBase map = font.getCOSObject().getDictionaryObject(COSName.CID_TO_GID_MAP);
+		if (map instanceof COSStream) {
+			try (InputStream is = ((COSStream) map).getUnfilteredStream()) {
+				int cid = 0;
+				int high;
+				while (cid <= MAX_CID && (high = is.read()) != -1) {
+					int low = is.read();
+					if (low == -1) {
+						break;
+					}
+					int gid = (high << 8) | low;
+					if (cid != 0 && gid != 0 && gid < numberOfGlyphs) {
+						glyphs.set(cid);
+					}
+					++cid;
+				}
+			}
+		} else if (numberOfGlyphs > 1) {
+			glyphs.set(1, Math.min(numberOfGlyphs, MAX_CID + 1));
+		}
+		return glyphs;
+	}
+
+	private static BitSet getCIDType0Glyphs(PDCIDFontType0 font) {
+		CFFFont cffFont = font.isEmbedded() ? font.getCFFFont() : null;
+		if (cffFont == null) {
+			return null;
+		}
+		int numberOfGlyphs = cffFont.getNumCharStrings();
+		BitSet glyphs = new BitSet(numberOfGlyphs);
+		if (cffFont instanceof CFFCIDFont) {
+			CFFCharset charset = cffFont.getCharset();
+			for (int gid = 1; gid < numberOfGlyphs; ++gid) {
+				int cid = charset.getCIDForGID(gid);
+				if (cid > 0 && cid <= MAX_CID) {
+					glyphs.set(cid);
+				}
+			}
+		} else if (numberOfGlyphs > 1) {
+			glyphs.set(1, Math.min(numberOfGlyphs, MAX_CID + 1));
+		}
+		return glyphs;
+	}
+
+	private static COSStream getFontProgram(COSDictionary descriptor) {
+		COSName[] keys = {COSName.FONT_FILE, COSName.FONT_FILE2, COSName.FONT_FILE3};
+		for (COSName key : keys) {
+			COSBase program = descriptor.getDictionaryObject(key);
+			if (program instanceof COSStream) {
+				return (COSStream) program;
+			}
+		}
+		return null;
+	}
+
+	private static Type0Container getType0Container(PDType0Font font) {
+		Type0Container container = new Type0Container(font);
+		PDCIDFont pdcidFont = font.getDescendantFont();
+		String cidType = pdcidFont.getCOSObject()
+				.getNameAsString(COSName.SUBTYPE);
+		if (CID_FONT_TYPE_0.equals(cidType)) {
+			CIDType0Container type0Container =
+					new CIDType0Container((PDCIDFontType0) pdcidFont);
+			container.setDelegateFontContainer(type0Container);
+		} else if (CID_FONT_TYPE_2.equals(cidType)) {
+			CIDType2Container type2Container =
+					new CIDType2Container((PDCIDFontType2) pdcidFont);
+			container.setDelegateFontContainer(type2Container);
+		}
+		return container;
+	}
+
 }
@@ -24,6 +24,7 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
 import org.apache.pdfbox.pdmodel.common.COSObjectable;
 import org.apache.pdfbox.pdmodel.font.PDFontLike;
 import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
@@ -57,6 +58,19 @@ public final class IDGenerator {
         return null;
     }
 
+    /**
+     * Generate ID for model object of indirect pdf box object. Current method
+     * generate a string of the form 'N M obj type', where 'N' and 'M' are
+     * numbers of the object key
+     *
+     * @param key  key of indirect pdf box object
+     * @param type type of model object
+     * @return string representation of ID
+     */
+    public static String generateID(COSObjectKey key, String type) {
+        return key.getNumber() + " " + key.getGeneration() + " obj " + type;
+    }
+
     /**
      * Generate ID for font glyph. Current method generate a string of the
      * form 'hashcode fontName glyphCode', where 'hashcode' is hashcode of
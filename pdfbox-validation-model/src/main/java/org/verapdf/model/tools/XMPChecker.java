@@ -25,6 +25,7 @@ import com.adobe.xmp.impl.VeraPDFMeta;
 import org.apache.log4j.Logger;
 import org.apache.pdfbox.cos.*;
 import org.apache.pdfbox.util.DateConverter;
+import org.verapdf.model.impl.pb.containers.XMPCache;
 
 import java.io.IOException;
 import java.util.Calendar;
@@ -78,6 +79,19 @@ public final class XMPChecker {
 	 * @return true if fields of xmp matches with fields of info dictionary
 	 */
 	public static Boolean doesInfoMatchXMP(COSDocument document) {
+		return doesInfoMatchXMP(document, new XMPCache());
+	}
+
+	/**
+	 * Matches properties of document information dictionary and xmp metadata.
+	 *
+	 * @param document
+	 *            which will be tested
+	 * @param xmpCache
+	 *            parsed metadata streams of the document
+	 * @return true if fields of xmp matches with fields of info dictionary
+	 */
+	public static Boolean doesInfoMatchXMP(COSDocument document, XMPCache xmpCache) {
 		COSDictionary info = getInformationDictionary(document);
 		if (info == null) {
 			return Boolean.TRUE;
@@ -86,7 +100,7 @@ public final class XMPChecker {
 		try {
 			COSStream meta = getMetadataDictionary(document);
 			if (meta != null) {
-				VeraPDFMeta metadata = VeraPDFMeta.parse(meta.getUnfilteredStream());
+				VeraPDFMeta metadata = xmpCache.getMetadata(meta);
 
 				Map<String, Object> properties = new HashMap<>(MAX_REQUIRED_RECORDS);
 
@@ -33,6 +33,7 @@ import org.apache.pdfbox.cos.COSStream;
 import org.apache.pdfbox.cos.COSString;
 import org.apache.pdfbox.cos.ICOSVisitor;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.cos.PBCosArray;
 import org.verapdf.model.impl.pb.cos.PBCosBool;
 import org.verapdf.model.impl.pb.cos.PBCosDict;
@@ -57,15 +58,17 @@ import org.verapdf.pdfa.flavours.PDFAFlavour;
 public final class PBCosVisitor implements ICOSVisitor {
 
     private final PDDocument document;
+    private final DocumentContext context;
     private final PDFAFlavour flavour;
 
-    private PBCosVisitor(PDDocument document, PDFAFlavour flavour) {
+    private PBCosVisitor(DocumentContext context, PDDocument document, PDFAFlavour flavour) {
         this.document = document;
+        this.context = context;
         this.flavour = flavour;
     }
 
-    public static PBCosVisitor getInstance(PDDocument document, PDFAFlavour flavour) {
-        return new PBCosVisitor(document, flavour);
+    public static PBCosVisitor getInstance(DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        return new PBCosVisitor(context, document, flavour);
     }
 
     /** {@inheritDoc} Create a PBCosArray for corresponding COSArray.
@@ -74,7 +77,7 @@ public final class PBCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromArray(COSArray obj) {
-        return new PBCosArray(obj, document, flavour);
+        return new PBCosArray(obj, context, document, flavour);
     }
 
     /** {@inheritDoc} Create a PBCosBool for corresponding COSBoolean.
@@ -97,7 +100,7 @@ public final class PBCosVisitor implements ICOSVisitor {
     public Object visitFromDictionary(COSDictionary obj) {
 		COSName type = obj.getCOSName(COSName.TYPE);
 		boolean isFileSpec = type != null && COSName.FILESPEC.equals(type);
-		return isFileSpec ? new PBCosFileSpecification(obj, document, flavour) : new PBCosDict(obj, document, flavour);
+		return isFileSpec ? new PBCosFileSpecification(obj, context, document, flavour) : new PBCosDict(obj, context, document, flavour);
     }
 
     /** {@inheritDoc} Create a PBCosDocument for corresponding COSDocument.
@@ -109,31 +112,31 @@ public final class PBCosVisitor implements ICOSVisitor {
         return new PBCosDocument(obj, flavour);
     }
 
-    /** {@inheritDoc} Create a PBCosReal for corresponding COSFloat.
+    /** {@inheritDoc} Obtain a shared PBCosReal for corresponding COSFloat.
      * @return PBCosReal object
      * @see PBCosReal
      */
     @Override
     public Object visitFromFloat(COSFloat obj) {
-        return new PBCosReal(obj);
+        return PBCosReal.valueOf(obj);
     }
 
-    /** {@inheritDoc} Create a PBCosInteger for corresponding COSInteger.
+    /** {@inheritDoc} Obtain a shared PBCosInteger for corresponding COSInteger.
      * @return PBCosInteger object
      * @see PBCosInteger
      */
     @Override
     public Object visitFromInt(COSInteger obj) {
-        return new PBCosInteger(obj);
+        return PBCosInteger.valueOf(obj);
     }
 
-    /** {@inheritDoc} Create a PBCosName for corresponding COSName.
+    /** {@inheritDoc} Obtain a shared PBCosName for corresponding COSName.
      * @return PBCosName object
      * @see PBCosName
      */
     @Override
     public Object visitFromName(COSName obj) {
-        return new PBCosName(obj);
+        return PBCosName.valueOf(obj);
     }
 
     /** {@inheritDoc} Create a PBCosNull for corresponding COSNull.
@@ -151,16 +154,16 @@ public final class PBCosVisitor implements ICOSVisitor {
      */
     @Override
     public Object visitFromStream(COSStream obj) {
-        return new PBCosStream(obj, document, flavour);
+        return new PBCosStream(obj, context, document, flavour);
     }
 
-    /** {@inheritDoc} Create a PBCosString for corresponding COSString.
+    /** {@inheritDoc} Obtain a shared PBCosString for corresponding COSString.
      * @return PBCosString object
      * @see PBCosString
      */
     @Override
     public Object visitFromString(COSString obj) {
-        return new PBCosString(obj);
+        return PBCosString.valueOf(obj);
     }
 
     /** Notification of visiting in indirect object. Create a PBCosIndirect for corresponding
@@ -170,7 +173,7 @@ public final class PBCosVisitor implements ICOSVisitor {
      * @see PBCosIndirect
      * @see COSObject#accept(ICOSVisitor)
      */
-    public static Object visitFromObject(COSObject obj, PDDocument document, PDFAFlavour flavour) {
-        return new PBCosIndirect(obj, document, flavour);
+    public static Object visitFromObject(COSObject obj, DocumentContext context, PDDocument document, PDFAFlavour flavour) {
+        return new PBCosIndirect(obj, context, document, flavour);
     }
 }
\ No newline at end of file
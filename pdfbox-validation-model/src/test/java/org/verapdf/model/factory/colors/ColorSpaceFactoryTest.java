@@ -0,0 +1,65 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.factory.colors;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSFloat;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+
+import java.io.IOException;
+
+public class ColorSpaceFactoryTest {
+
+	@Test
+	public void testColorSpaceIsSharedPerArray() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			DocumentContext context = new DocumentContext();
+			COSArray lab = createLab();
+			org.verapdf.model.pdlayer.PDColorSpace first =
+					ColorSpaceFactory.getColorSpace(PDColorSpace.create(lab), context, document, null);
+			Assert.assertNotNull(first);
+			Assert.assertSame(first, ColorSpaceFactory.getColorSpace(PDColorSpace.create(lab), context, document, null));
+			Assert.assertNotSame(first, ColorSpaceFactory.getColorSpace(PDColorSpace.create(createLab()),
+					context, document, null));
+			Assert.assertEquals(1, context.getCachedColorSpaces().getHits());
+		}
+	}
+
+	private static COSArray createLab() {
+		COSArray whitePoint = new COSArray();
+		whitePoint.add(new COSFloat(0.9505f));
+		whitePoint.add(COSInteger.ONE);
+		whitePoint.add(new COSFloat(1.089f));
+		COSDictionary parameters = new COSDictionary();
+		parameters.setItem(COSName.WHITE_POINT, whitePoint);
+		COSArray lab = new COSArray();
+		lab.add(COSName.LAB);
+		lab.add(parameters);
+		return lab;
+	}
+}
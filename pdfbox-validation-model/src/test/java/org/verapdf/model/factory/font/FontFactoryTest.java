@@ -24,14 +24,17 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDResources;
 import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDTrueTypeFont;
 import org.verapdf.model.pdlayer.PDType0Font;
 import org.verapdf.model.pdlayer.PDType1Font;
 import org.verapdf.model.pdlayer.PDType3Font;
+import org.verapdf.model.tools.resources.PDInheritableResources;
 
 import java.io.File;
 import java.io.IOException;
@@ -49,12 +52,14 @@ public class FontFactoryTest {
 
 	private static PDResources resources;
 	private static PDDocument document;
+	private static DocumentContext context;
 
 	@BeforeClass
 	public static void setUp() throws URISyntaxException, IOException {
 		String fileAbsolutePath = getSystemIndependentPath(FILE_RELATIVE_PATH);
 		File file = new File(fileAbsolutePath);
 		document = PDDocument.load(file, false, true);
+		context = new DocumentContext();
 		resources = document.getPage(0).getResources();
 	}
 
@@ -67,37 +72,49 @@ public class FontFactoryTest {
 	@Test
 	public void testType0CID0Generating() throws IOException {
 		PDFont font = resources.getFont(COSName.getPDFName("C0_0"));
-		org.verapdf.model.pdlayer.PDFont convertedFont = FontFactory.parseFont(font, document, null);
+		org.verapdf.model.pdlayer.PDFont convertedFont = FontFactory.parseFont(font, context, document, null);
 		Assert.assertTrue(convertedFont instanceof PDType0Font);
 	}
 
 	@Test
 	public void testType0CID2Generating() throws IOException {
 		PDFont font = resources.getFont(COSName.getPDFName("C2_0"));
-		Assert.assertTrue(FontFactory.parseFont(font, document, null) instanceof PDType0Font);
+		Assert.assertTrue(FontFactory.parseFont(font, context, document, null) instanceof PDType0Font);
 	}
 
 	@Test
 	public void testType1Generating() throws IOException {
 		PDFont font = resources.getFont(COSName.getPDFName("T1_0"));
-		Assert.assertTrue(FontFactory.parseFont(font, document, null) instanceof PDType1Font);
+		Assert.assertTrue(FontFactory.parseFont(font, context, document, null) instanceof PDType1Font);
 	}
 
 	@Test
 	public void testType3Generating() throws IOException {
 		PDFont font = resources.getFont(COSName.getPDFName("T3_0"));
-		Assert.assertTrue(FontFactory.parseFont(font, document, null) instanceof PDType3Font);
+		Assert.assertTrue(FontFactory.parseFont(font, context, document, null) instanceof PDType3Font);
 	}
 
 	@Test
 	public void testTrueTypeGenerating() throws IOException {
 		PDFont font = resources.getFont(COSName.getPDFName("TT0"));
-		Assert.assertTrue(FontFactory.parseFont(font, document, null) instanceof PDTrueTypeFont);
+		Assert.assertTrue(FontFactory.parseFont(font, context, document, null) instanceof PDTrueTypeFont);
+	}
+
+	@Test
+	public void testFontIsSharedPerRenderingMode() throws IOException {
+		PDFont font = resources.getFont(COSName.getPDFName("TT0"));
+		org.verapdf.model.pdlayer.PDFont fill = FontFactory.parseFont(font, RenderingMode.FILL,
+				PDInheritableResources.getInstance(resources), context, document, null);
+		Assert.assertSame(fill, FontFactory.parseFont(font, RenderingMode.FILL,
+				PDInheritableResources.getInstance(resources), context, document, null));
+		Assert.assertNotSame(fill, FontFactory.parseFont(font, RenderingMode.STROKE,
+				PDInheritableResources.getInstance(resources), context, document, null));
 	}
 
 	@AfterClass
 	public static void tearDown() throws IOException {
 		resources = null;
+		context = null;
 		document.close();
 		document = null;
 	}
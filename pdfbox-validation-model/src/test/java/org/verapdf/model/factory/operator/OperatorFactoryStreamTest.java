@@ -0,0 +1,144 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.factory.operator;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.coslayer.CosNumber;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.operator.pathconstruction.PBOp_re;
+import org.verapdf.model.operator.Operator;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Checks that streaming conversion of content stream gives the same result
+ * as conversion of fully parsed list of tokens.
+ */
+public class OperatorFactoryStreamTest {
+
+	private static final String FILE_PATH = "/model/impl/pb/operator/Operators.pdf";
+	private static final COSObjectKey KEY = new COSObjectKey(15, 0);
+	private static final int LARGE_STREAM_OPERATORS = 100000;
+
+	private static PDDocument document;
+	private static DocumentContext context;
+	private static COSStream stream;
+	private static PDInheritableResources resources;
+
+	@BeforeClass
+	public static void setUp() throws IOException, URISyntaxException {
+		File file = Paths.get(ClassLoader.class.getResource(FILE_PATH).toURI()).toFile();
+		document = PDDocument.load(file, false, true);
+		context = new DocumentContext();
+		stream = (COSStream) document.getDocument().getObjectFromPool(KEY).getObject();
+		PDResources pageResources = document.getPage(0).getResources();
+		resources = PDInheritableResources.getInstance(pageResources);
+	}
+
+	@Test
+	public void testStreamingConversionMatchesTokenList() throws IOException {
+		PDFStreamParser parser = new PDFStreamParser(stream, true);
+		parser.parse();
+		OperatorFactory tokensFactory = new OperatorFactory();
+		List<Operator> expected = tokensFactory.operatorsFromTokens(parser.getTokens(), resources, context, document, null);
+
+		OperatorFactory streamFactory = new OperatorFactory();
+		List<Operator> actual = streamFactory.operatorsFromStream(
+				new PDFStreamParser(stream, true), resources, context, document, null);
+
+		Assert.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); ++i) {
+			Assert.assertEquals(expected.get(i).getObjectType(), actual.get(i).getObjectType());
+		}
+		Assert.assertEquals(tokensFactory.isLastParsedContainsTransparency(),
+				streamFactory.isLastParsedContainsTransparency());
+	}
+
+	@Test
+	public void testOperandsAreKeptPerOperator() throws IOException {
+		List<Operator> operators = new OperatorFactory().operatorsFromStream(
+				new PDFStreamParser(createStream("1 2 3 4 re 5 6.5 7 8 re\n", 1), true),
+				PDInheritableResources.EMPTY_EXTENDED_RESOURCES, context, document, null);
+
+		Assert.assertEquals(2, operators.size());
+		assertRectBox(operators.get(0), 1, 2, 3, 4);
+		assertRectBox(operators.get(1), 5, 6.5, 7, 8);
+	}
+
+	@Test
+	public void testLargeStreamDoesNotRetainTokens() throws IOException {
+		PDFStreamParser parser = new PDFStreamParser(createStream("0 1 2 3 re\n", LARGE_STREAM_OPERATORS), true);
+		List<Operator> operators = new OperatorFactory().operatorsFromStream(parser,
+				PDInheritableResources.EMPTY_EXTENDED_RESOURCES, context, document, null);
+
+		// tokens are not collected by the parser, arguments are not shared between operators
+		Assert.assertTrue(parser.getTokens().isEmpty());
+		Assert.assertEquals(LARGE_STREAM_OPERATORS, operators.size());
+		assertRectBox(operators.get(0), 0, 1, 2, 3);
+		assertRectBox(operators.get(LARGE_STREAM_OPERATORS - 1), 0, 1, 2, 3);
+	}
+
+	private static void assertRectBox(Operator operator, double... expected) {
+		Assert.assertEquals(PBOp_re.OP_RE_TYPE, operator.getObjectType());
+		List<? extends Object> rectBox = operator.getLinkedObjects(PBOp_re.RECT_BOX);
+		Assert.assertEquals(expected.length, rectBox.size());
+		for (int i = 0; i < expected.length; ++i) {
+			Assert.assertEquals(expected[i], ((CosNumber) rectBox.get(i)).getrealValue().doubleValue(), 0);
+		}
+	}
+
+	private static COSStream createStream(String content, int repetitions) throws IOException {
+		COSStream result = new COSStream(new COSDictionary());
+		byte[] bytes = content.getBytes(StandardCharsets.US_ASCII);
+		try (OutputStream out = result.createUnfilteredStream()) {
+			for (int i = 0; i < repetitions; ++i) {
+				out.write(bytes);
+			}
+		}
+		return result;
+	}
+
+	@AfterClass
+	public static void tearDown() throws IOException {
+		stream = null;
+		resources = null;
+		if (document != null) {
+			document.close();
+		}
+	}
+}
@@ -27,6 +27,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -58,7 +59,7 @@ public class OperatorFactoryTest {
 	public void testOperatorsFromTokensMethod() {
 		List<Object> input = new ArrayList<>(1);
 		input.add(fInput);
-		Assert.assertEquals(fExpected, new OperatorFactory().operatorsFromTokens(input, null, null, null).size());
+		Assert.assertEquals(fExpected, new OperatorFactory().operatorsFromTokens(input, null, new DocumentContext(), null, null).size());
 	}
 
 }
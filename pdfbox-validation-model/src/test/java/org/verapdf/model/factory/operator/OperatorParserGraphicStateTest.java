@@ -0,0 +1,109 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.factory.operator;
+
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.tools.constants.Operators;
+import org.verapdf.model.tools.resources.PDInheritableResources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Checks that graphic states saved by q operator are not affected by
+ * changes made before the matching Q operator
+ */
+public class OperatorParserGraphicStateTest {
+
+	private static final PDInheritableResources RESOURCES = PDInheritableResources.EMPTY_EXTENDED_RESOURCES;
+
+	@Test
+	public void testSavedStateIsNotChangedByMutation() throws Exception {
+		OperatorParser parser = new OperatorParser(new DocumentContext(), null, null);
+		List<org.verapdf.model.operator.Operator> operators = new ArrayList<>();
+		GraphicState initial = parser.getGraphicState();
+
+		parse(parser, operators, Operators.Q_GSAVE);
+		parse(parser, operators, Operators.TR, COSInteger.get(RenderingMode.STROKE.intValue()));
+		parse(parser, operators, Operators.TF, COSName.getPDFName("F1"), COSInteger.ONE);
+
+		GraphicState modified = parser.getGraphicState();
+		Assert.assertNotSame(initial, modified);
+		Assert.assertEquals(RenderingMode.STROKE, modified.getRenderingMode());
+		Assert.assertEquals(COSName.getPDFName("F1"), modified.getFontName());
+		Assert.assertEquals(RenderingMode.FILL, initial.getRenderingMode());
+		Assert.assertNull(initial.getFontName());
+
+		parse(parser, operators, Operators.Q_GRESTORE);
+
+		GraphicState restored = parser.getGraphicState();
+		Assert.assertEquals(RenderingMode.FILL, restored.getRenderingMode());
+		Assert.assertNull(restored.getFontName());
+		Assert.assertEquals(RenderingMode.STROKE, modified.getRenderingMode());
+	}
+
+	@Test
+	public void testRestoredStateIsNotChangedByMutation() throws Exception {
+		OperatorParser parser = new OperatorParser(new DocumentContext(), null, null);
+		List<org.verapdf.model.operator.Operator> operators = new ArrayList<>();
+
+		parse(parser, operators, Operators.TR, COSInteger.get(RenderingMode.STROKE.intValue()));
+		parse(parser, operators, Operators.Q_GSAVE);
+		parse(parser, operators, Operators.Q_GRESTORE);
+		GraphicState restored = parser.getGraphicState();
+
+		parse(parser, operators, Operators.Q_GSAVE);
+		parse(parser, operators, Operators.TR, COSInteger.get(RenderingMode.NEITHER.intValue()));
+		Assert.assertEquals(RenderingMode.STROKE, restored.getRenderingMode());
+		parse(parser, operators, Operators.Q_GRESTORE);
+
+		Assert.assertEquals(RenderingMode.STROKE, parser.getGraphicState().getRenderingMode());
+		Assert.assertEquals(RenderingMode.STROKE, restored.getRenderingMode());
+	}
+
+	@Test
+	public void testStateIsNotCopiedWithoutMutation() throws Exception {
+		OperatorParser parser = new OperatorParser(new DocumentContext(), null, null);
+		List<org.verapdf.model.operator.Operator> operators = new ArrayList<>();
+		GraphicState initial = parser.getGraphicState();
+
+		parse(parser, operators, Operators.Q_GSAVE);
+		parse(parser, operators, Operators.TR, COSInteger.get(RenderingMode.FILL.intValue()));
+		Assert.assertSame(initial, parser.getGraphicState());
+		parse(parser, operators, Operators.Q_GRESTORE);
+		Assert.assertSame(initial, parser.getGraphicState());
+	}
+
+	private static void parse(OperatorParser parser, List<org.verapdf.model.operator.Operator> operators,
+							  String operator, COSBase... arguments) throws Exception {
+		List<COSBase> list = new ArrayList<>();
+		Collections.addAll(list, arguments);
+		parser.parseOperator(operators, Operator.getOperator(operator), RESOURCES, list);
+	}
+}
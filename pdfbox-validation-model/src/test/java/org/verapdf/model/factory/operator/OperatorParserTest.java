@@ -26,6 +26,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.impl.pb.operator.color.PBOpColor;
 import org.verapdf.model.impl.pb.operator.color.PBOpSetColor;
 import org.verapdf.model.impl.pb.operator.generalgs.*;
@@ -172,7 +173,7 @@ public class OperatorParserTest {
 			List<Object> operators = new ArrayList<>(1);
 			operators.add(this.operator);
 			final org.verapdf.model.operator.Operator veraOperator =
-					new OperatorFactory().operatorsFromTokens(operators, RESOURCES, null, null).get(0);
+					new OperatorFactory().operatorsFromTokens(operators, RESOURCES, new DocumentContext(), null, null).get(0);
 			Assert.assertEquals(this.expectedType, veraOperator.getObjectType());
 		}
 	}
@@ -184,7 +185,7 @@ public class OperatorParserTest {
 		pdfBoxOperator.setImageParameters(new COSDictionary());
 		opObjects.add(pdfBoxOperator);
 		List<org.verapdf.model.operator.Operator> operators =
-				new OperatorFactory().operatorsFromTokens(opObjects, RESOURCES, null, null);
+				new OperatorFactory().operatorsFromTokens(opObjects, RESOURCES, new DocumentContext(), null, null);
 		Assert.assertEquals(PBOp_BI.OP_BI_TYPE, operators.get(0).getObjectType());
 		Assert.assertEquals(PBOp_ID.OP_ID_TYPE, operators.get(1).getObjectType());
 		Assert.assertEquals(PBOp_EI.OP_EI_TYPE, operators.get(2).getObjectType());
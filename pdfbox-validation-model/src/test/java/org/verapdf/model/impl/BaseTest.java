@@ -25,6 +25,7 @@ import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Test;
 import org.verapdf.model.ModelHelper;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -45,6 +46,7 @@ public abstract class BaseTest {
 
     protected static org.verapdf.model.baselayer.Object actual;
 	protected static PDDocument document;
+	protected static DocumentContext context;
 
     protected static String expectedType;
     protected static String expectedID;
@@ -76,6 +78,7 @@ public abstract class BaseTest {
 		expectedType = null;
 		expectedID = null;
 		actual = null;
+		context = null;
 
 		if (document != null) {
 			document.close();
@@ -86,6 +89,7 @@ public abstract class BaseTest {
 		String fileAbsolutePath = getSystemIndependentPath(BASE_FOLDER + path);
 		File file = new File(fileAbsolutePath);
 		document = PDDocument.load(file, false, true);
+		context = new DocumentContext();
 	}
 
 	protected static String getSystemIndependentPath(String path) throws URISyntaxException {
@@ -0,0 +1,83 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.fontbox.cmap.CMap;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class CMapCacheTest {
+
+	private static final String CMAP = "/CIDInit /ProcSet findresource begin\n" +
+			"12 dict begin\nbegincmap\n/CMapName /Test-V def\n/WMode 1 def\n" +
+			"1 begincodespacerange\n<0000> <FFFF>\nendcodespacerange\n" +
+			"1 begincidrange\n<0000> <FFFF> 0\nendcidrange\n" +
+			"endcmap\nCMapName currentdict /CMap defineresource pop\nend\nend\n";
+
+	@After
+	public void restoreCapacity() {
+		CMapCache.setCapacity(CMapCache.DEFAULT_CAPACITY);
+	}
+
+	@Test
+	public void testEqualStreamsShareCMap() throws IOException {
+		CMapCache.setCapacity(8);
+		CMap cMap = CMapCache.getCMap(createStream());
+		Assert.assertEquals(1, cMap.getWMode());
+		Assert.assertEquals(1, CMapCache.getCMap(createStream()).getWMode());
+		Assert.assertEquals(1, CMapCache.getCache().getHits());
+		Assert.assertEquals(1, CMapCache.getCache().getMisses());
+	}
+
+	@Test
+	public void testDisabledCacheParsesEveryStream() throws IOException {
+		CMapCache.setCapacity(0);
+		Assert.assertNull(CMapCache.getCache());
+		Assert.assertNotSame(CMapCache.getCMap(createStream()), CMapCache.getCMap(createStream()));
+	}
+
+	@Test
+	public void testPredefinedCMapIsParsedOnce() throws IOException {
+		CountingCache<String, CMap> cache = CMapCache.getPredefinedCache();
+		CMapCache.getPredefinedCMap("Identity-V");
+		long hits = cache.getHits();
+		long misses = cache.getMisses();
+		CMap cMap = CMapCache.getPredefinedCMap("Identity-V");
+		Assert.assertEquals(1, cMap.getWMode());
+		Assert.assertEquals(hits + 1, cache.getHits());
+		Assert.assertEquals(misses, cache.getMisses());
+	}
+
+	private static COSStream createStream() throws IOException {
+		COSStream stream = new COSStream(new COSDictionary());
+		try (OutputStream out = stream.createUnfilteredStream()) {
+			out.write(CMAP.getBytes(StandardCharsets.US_ASCII));
+		}
+		return stream;
+	}
+}
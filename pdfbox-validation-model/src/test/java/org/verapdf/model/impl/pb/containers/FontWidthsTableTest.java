@@ -0,0 +1,61 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class FontWidthsTableTest {
+
+	private static final int CODE_A = 65;
+
+	@Test
+	public void testStandardFontWidthsAreConsistent() throws IOException {
+		FontWidthsTable table = new FontWidthsTable();
+		Assert.assertTrue(table.isConsistent(PDType1Font.HELVETICA, CODE_A));
+		Assert.assertTrue(table.isConsistent(PDType1Font.HELVETICA, CODE_A));
+	}
+
+	@Test
+	public void testCodesOutOfTwoByteRange() throws IOException {
+		FontWidthsTable table = new FontWidthsTable();
+		boolean negative = table.isConsistent(PDType1Font.HELVETICA, -1);
+		Assert.assertEquals(negative, table.isConsistent(PDType1Font.HELVETICA, -1));
+		boolean large = table.isConsistent(PDType1Font.HELVETICA, Integer.MAX_VALUE);
+		Assert.assertEquals(large, table.isConsistent(PDType1Font.HELVETICA, Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testFontWidthsAreLookedUpByFontDictionary() {
+		DocumentContext context = new DocumentContext();
+		context.getFontWidths(PDType1Font.HELVETICA.getCOSObject());
+		context.getFontWidths(PDType1Font.HELVETICA.getCOSObject());
+		context.getFontWidths(PDType1Font.COURIER.getCOSObject());
+		CountingCache<COSDictionary, FontWidthsTable> cache = context.getCachedFontWidths();
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(2, cache.getMisses());
+		Assert.assertEquals(2, cache.size());
+	}
+}
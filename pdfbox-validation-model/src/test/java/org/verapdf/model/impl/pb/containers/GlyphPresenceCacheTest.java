@@ -0,0 +1,86 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.tools.ContentDigest;
+
+import java.io.IOException;
+
+public class GlyphPresenceCacheTest {
+
+	@After
+	public void disableCache() {
+		GlyphPresenceCache.setCapacity(0);
+	}
+
+	@Test
+	public void testCacheIsDisabledByDefault() throws IOException {
+		Assert.assertFalse(GlyphPresenceCache.isEnabled());
+		Assert.assertNull(GlyphPresenceCache.getGlyphPresence(ContentDigest.of(COSName.TYPE1)));
+	}
+
+	@Test
+	public void testEqualProgramsShareTable() throws IOException {
+		GlyphPresenceCache.setCapacity(8);
+		GlyphPresenceTable table = GlyphPresenceCache.getGlyphPresence(ContentDigest.of(createFont("Widths")));
+		table.setPresent(65, true);
+
+		GlyphPresenceTable other = GlyphPresenceCache.getGlyphPresence(ContentDigest.of(createFont("Widths")));
+		Assert.assertSame(table, other);
+		Assert.assertEquals(Boolean.TRUE, other.isPresent(65));
+		Assert.assertNull(other.isPresent(66));
+		Assert.assertEquals(1, GlyphPresenceCache.getCache().getHits());
+		Assert.assertEquals(1, GlyphPresenceCache.getCache().getMisses());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedProgramIsEvicted() throws IOException {
+		GlyphPresenceCache.setCapacity(1);
+		GlyphPresenceTable first = GlyphPresenceCache.getGlyphPresence(ContentDigest.of(createFont("First")));
+		GlyphPresenceCache.getGlyphPresence(ContentDigest.of(createFont("Second")));
+
+		Assert.assertEquals(1, GlyphPresenceCache.getCache().getEvictions());
+		Assert.assertNotSame(first, GlyphPresenceCache.getGlyphPresence(ContentDigest.of(createFont("First"))));
+	}
+
+	@Test
+	public void testCodesOutsideTwoByteRangeAreKept() {
+		GlyphPresenceTable table = new GlyphPresenceTable();
+		table.setPresent(Integer.MAX_VALUE, true);
+		table.setPresent(-1, false);
+
+		Assert.assertEquals(Boolean.TRUE, table.isPresent(Integer.MAX_VALUE));
+		Assert.assertEquals(Boolean.FALSE, table.isPresent(-1));
+		Assert.assertNull(table.isPresent(0x10000));
+	}
+
+	private static COSDictionary createFont(String name) {
+		COSDictionary font = new COSDictionary();
+		font.setItem(COSName.SUBTYPE, COSName.TYPE1);
+		font.setName(COSName.BASE_FONT, name);
+		return font;
+	}
+}
@@ -0,0 +1,71 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SeparationIndexTest {
+
+	@Test
+	public void testEqualColorSpacesAreConsistent() {
+		SeparationIndex index = new SeparationIndex();
+		COSArray shared = createSeparation(COSName.DEVICECMYK);
+		index.register("Spot", shared, "1");
+		index.register("Spot", shared, "1");
+		index.register("Spot", createSeparation(COSName.DEVICECMYK), "2");
+		Assert.assertTrue(index.isConsistent("Spot"));
+		Assert.assertNull(index.getInconsistency("Spot"));
+		Assert.assertEquals(2, index.getFingerprintsCount());
+	}
+
+	@Test
+	public void testFirstInconsistencyIsRecorded() {
+		SeparationIndex index = new SeparationIndex();
+		index.register("Spot", createSeparation(COSName.DEVICECMYK), "1");
+		index.register("Other", createSeparation(COSName.DEVICERGB), "2");
+		index.register("Spot", createSeparation(COSName.DEVICERGB), "3");
+		index.register("Spot", createSeparation(COSName.DEVICEGRAY), "4");
+		Assert.assertFalse(index.isConsistent("Spot"));
+		Assert.assertTrue(index.isConsistent("Other"));
+		Assert.assertArrayEquals(new String[] {"1", "3"}, index.getInconsistency("Spot"));
+	}
+
+	static COSArray createSeparation(COSName alternate) {
+		COSArray domain = new COSArray();
+		domain.add(COSInteger.ZERO);
+		domain.add(COSInteger.ONE);
+		COSDictionary tintTransform = new COSDictionary();
+		tintTransform.setInt(COSName.FUNCTION_TYPE, 2);
+		tintTransform.setItem(COSName.DOMAIN, domain);
+		tintTransform.setInt(COSName.N, 1);
+		COSArray separation = new COSArray();
+		separation.add(COSName.SEPARATION);
+		separation.add(COSName.getPDFName("Spot"));
+		separation.add(alternate);
+		separation.add(tintTransform);
+		return separation;
+	}
+}
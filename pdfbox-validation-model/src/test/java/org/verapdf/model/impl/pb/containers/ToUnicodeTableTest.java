@@ -0,0 +1,60 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ToUnicodeTableTest {
+
+	private static final int CODE_A = 65;
+	private static final int CODE_NOT_ENCODED = 0;
+
+	@Test
+	public void testEntryOfSimpleFont() {
+		ToUnicodeTable table = new ToUnicodeTable(PDType1Font.HELVETICA);
+		ToUnicodeTable.Entry entry = table.getEntry(PDType1Font.HELVETICA, CODE_A);
+		Assert.assertEquals("A", entry.getName());
+		Assert.assertEquals("A", entry.getToUnicode());
+		Assert.assertFalse(entry.isUnicodePUA());
+		Assert.assertFalse(entry.isNotdef());
+		Assert.assertSame(entry, table.getEntry(PDType1Font.HELVETICA, CODE_A));
+	}
+
+	@Test
+	public void testEntryOfCodeWithoutUnicode() {
+		ToUnicodeTable.Entry entry = new ToUnicodeTable(PDType1Font.HELVETICA)
+				.getEntry(PDType1Font.HELVETICA, CODE_NOT_ENCODED);
+		Assert.assertNull(entry.getToUnicode());
+		Assert.assertFalse(entry.isUnicodePUA());
+	}
+
+	@Test
+	public void testTablesAreLookedUpByFontDictionary() {
+		DocumentContext context = new DocumentContext();
+		context.getToUnicode(PDType1Font.HELVETICA);
+		context.getToUnicode(PDType1Font.COURIER);
+		context.getToUnicode(PDType1Font.HELVETICA);
+		Assert.assertEquals(1, context.getCachedToUnicode().getHits());
+		Assert.assertEquals(2, context.getCachedToUnicode().getMisses());
+	}
+}
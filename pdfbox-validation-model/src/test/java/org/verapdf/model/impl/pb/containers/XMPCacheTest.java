@@ -0,0 +1,69 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.containers;
+
+import com.adobe.xmp.XMPException;
+import com.adobe.xmp.impl.VeraPDFMeta;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+
+public class XMPCacheTest {
+
+	private static final String FILE_RELATIVE_PATH = "/model/impl/pb/cos/veraPDF test suite 6-1-2-t02-fail-a.pdf";
+
+	@Test
+	public void testMetadataIsParsedOnce() throws URISyntaxException, IOException, XMPException {
+		File file = Paths.get(XMPCacheTest.class.getResource(FILE_RELATIVE_PATH).toURI()).toFile();
+		try (PDDocument document = PDDocument.load(file, false, true)) {
+			COSStream stream = document.getDocumentCatalog().getMetadata().getStream();
+			XMPCache cache = new XMPCache();
+			VeraPDFMeta first = cache.getMetadata(stream);
+			VeraPDFMeta second = cache.getMetadata(stream);
+			Assert.assertNotNull(first);
+			Assert.assertSame(first, second);
+			Assert.assertEquals(1, cache.getParsedStreams());
+			Assert.assertEquals(1, cache.getHits());
+			Assert.assertTrue(cache.getParseTime() > 0);
+		}
+	}
+
+	@Test
+	public void testCopyIsNotShared() throws URISyntaxException, IOException, XMPException {
+		File file = Paths.get(XMPCacheTest.class.getResource(FILE_RELATIVE_PATH).toURI()).toFile();
+		try (PDDocument document = PDDocument.load(file, false, true)) {
+			COSStream stream = document.getDocumentCatalog().getMetadata().getStream();
+			XMPCache cache = new XMPCache();
+			VeraPDFMeta shared = cache.getMetadata(stream);
+			VeraPDFMeta copy = cache.getMetadataCopy(stream);
+			Assert.assertNotSame(shared, copy);
+			Assert.assertEquals(shared.getIdentificationPart(), copy.getIdentificationPart());
+			Assert.assertEquals(2, cache.getParsedStreams());
+			Assert.assertEquals(1, cache.getHits());
+		}
+	}
+}
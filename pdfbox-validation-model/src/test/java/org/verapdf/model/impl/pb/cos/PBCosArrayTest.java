@@ -58,7 +58,7 @@ public class PBCosArrayTest extends BaseTest {
         array.add(object);
         array.add(null);
 
-        actual = new PBCosArray(array, document, null);
+        actual = new PBCosArray(array, context, document, null);
     }
 
     @Test
@@ -64,7 +64,7 @@ public class PBCosDictTest extends BaseTest {
         
         expectedLength = dictionary.size();
 
-        actual = new PBCosDict(dictionary, document, null);
+        actual = new PBCosDict(dictionary, context, document, null);
     }
 
     @Test
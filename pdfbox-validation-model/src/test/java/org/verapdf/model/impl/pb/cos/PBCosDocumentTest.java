@@ -20,21 +20,26 @@
  */
 package org.verapdf.model.impl.pb.cos;
 
+import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosDocument;
+import org.verapdf.model.coslayer.CosObject;
 import org.verapdf.model.coslayer.CosTrailer;
 import org.verapdf.model.coslayer.CosXRef;
 import org.verapdf.model.impl.BaseTest;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.pdfa.flavours.PDFAFlavour;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.RandomAccess;
 
 import static org.verapdf.model.impl.pb.cos.PBCosDocument.COS_DOCUMENT_TYPE;
 
@@ -46,6 +51,7 @@ public class PBCosDocumentTest extends BaseTest {
     public static final String FILE_RELATIVE_PATH = "/model/impl/pb/cos/veraPDF test suite 6-1-2-t02-fail-a.pdf";
 
     private static final Long expectedNumberOfIndirects = Long.valueOf(17);
+    private static final int MAX_GC_ATTEMPTS = 10;
 	private static final double expectedDocumentVersion = 1.4;
     private static final String expectedIDS = "D6CF927DCF82444068EB69A5914F8070A2A7539F7C71DEBB6A4A6B418235962D";
 
@@ -58,7 +64,7 @@ public class PBCosDocumentTest extends BaseTest {
         String fileAbsolutePath = getSystemIndependentPath(FILE_RELATIVE_PATH);
         final File file = new File(fileAbsolutePath);
         try (PDDocument doc = PDDocument.load(file, false, true)) {
-            actual = new PBCosDocument(doc, PDFAFlavour.PDFA_1_B);
+            actual = new PBCosDocument(new DocumentContext(), doc, PDFAFlavour.PDFA_1_B);
         }
     }
 
@@ -166,6 +172,46 @@ public class PBCosDocumentTest extends BaseTest {
         }
     }
 
+    @Test
+    public void testIndirectObjectsAreNotRetained() {
+        List<? extends Object> indirects = actual.getLinkedObjects(PBCosDocument.INDIRECT_OBJECTS);
+        Assert.assertTrue(indirects instanceof RandomAccess);
+        Object first = indirects.get(0);
+        Assert.assertNotSame(first, indirects.get(0));
+        Assert.assertEquals(first.getID(), indirects.get(0).getID());
+
+        WeakReference<Object> reference = new WeakReference<>(first);
+        first = null;
+        for (int i = 0; i < MAX_GC_ATTEMPTS && reference.get() != null; ++i) {
+            System.gc();
+        }
+        Assert.assertNull(reference.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIndirectObjectsAreUnmodifiable() {
+        List<? extends Object> indirects = actual.getLinkedObjects(PBCosDocument.INDIRECT_OBJECTS);
+        indirects.remove(0);
+    }
+
+    @Test
+    public void testSharedObjectIsValidatedOnceOnRequest() throws URISyntaxException, IOException {
+        File file = new File(getSystemIndependentPath(FILE_RELATIVE_PATH));
+        try (PDDocument doc = PDDocument.load(file, false, true)) {
+            COSDictionary catalog = doc.getDocumentCatalog().getCOSObject();
+            DocumentContext context = new DocumentContext();
+            Assert.assertTrue(context.isExhaustive());
+            CosObject exhaustive = PBCosObject.getFromValue(catalog, context, doc, PDFAFlavour.PDFA_1_B);
+            Assert.assertNull(exhaustive.getID());
+
+            context.setExhaustive(false);
+            CosObject first = PBCosObject.getFromValue(catalog, context, doc, PDFAFlavour.PDFA_1_B);
+            CosObject second = PBCosObject.getFromValue(catalog, context, doc, PDFAFlavour.PDFA_1_B);
+            Assert.assertNotNull(first.getID());
+            Assert.assertEquals(first.getID(), second.getID());
+        }
+    }
+
     @Test
     public void testDocumentLink() {
         List<? extends Object> doc = actual.getLinkedObjects(PBCosDocument.DOCUMENT);
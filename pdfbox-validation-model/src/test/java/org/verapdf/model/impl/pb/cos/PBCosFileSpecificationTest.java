@@ -47,7 +47,7 @@ public class PBCosFileSpecificationTest extends BaseTest {
         COSDictionary specification = new COSDictionary();
         specification.setItem(COSName.EF, new COSDictionary());
 
-        actual = new PBCosFileSpecification(specification, document, null);
+        actual = new PBCosFileSpecification(specification, context, document, null);
     }
 
     @Test
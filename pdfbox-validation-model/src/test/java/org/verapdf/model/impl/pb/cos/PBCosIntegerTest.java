@@ -49,6 +49,13 @@ public class PBCosIntegerTest extends BaseTest {
         actual = new PBCosInteger(integer);
     }
 
+    @Test
+    public void testSmallIntegersAreShared() {
+        Assert.assertSame(PBCosInteger.valueOf(COSInteger.get(42)), PBCosInteger.valueOf(COSInteger.get(42)));
+        Assert.assertEquals(Long.valueOf(-100), PBCosInteger.valueOf(COSInteger.get(-100)).getintValue());
+        Assert.assertEquals(Long.valueOf(100000), PBCosInteger.valueOf(COSInteger.get(100000)).getintValue());
+    }
+
     @Test
     public void testGetIntegerMethod() {
         Assert.assertTrue(((CosInteger) actual).getintValue().equals(Long.valueOf(expected)));
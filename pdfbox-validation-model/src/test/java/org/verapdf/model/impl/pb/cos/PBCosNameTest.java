@@ -71,6 +71,15 @@ public class PBCosNameTest extends BaseTest {
         }
     }
 
+    @Test
+    public void testValueOfIsShared() {
+        for (COSName name : expectedNames) {
+            CosName shared = PBCosName.valueOf(name);
+            Assert.assertSame(shared, PBCosName.valueOf(name));
+            Assert.assertEquals(name.getName(), shared.getinternalRepresentation());
+        }
+    }
+
     @Test
     public void testGetOriginalLength() {
         for (int i = 0; i < expectedNames.size(); i++) {
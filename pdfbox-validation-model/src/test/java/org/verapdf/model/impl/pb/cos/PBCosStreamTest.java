@@ -46,7 +46,7 @@ public class PBCosStreamTest extends BaseTest {
 
         COSStream stream = getCosStream();
 
-        actual = new PBCosStream(stream, document, null);
+        actual = new PBCosStream(stream, context, document, null);
     }
 
     private static COSStream getCosStream() throws IOException {
@@ -64,6 +64,15 @@ public class PBCosStringTest extends BaseTest {
         secondExpected = "Hello, World!";
     }
 
+    @Test
+    public void testValueOfDistinguishesHexForm() throws IOException {
+        COSString literal = new COSString("Hello");
+        COSString hex = COSString.parseHex("48656C6C6F");
+        Assert.assertSame(PBCosString.valueOf(literal), PBCosString.valueOf(new COSString("Hello")));
+        Assert.assertNotSame(PBCosString.valueOf(literal), PBCosString.valueOf(hex));
+        Assert.assertTrue(PBCosString.valueOf(hex).getisHex().booleanValue());
+    }
+
     @Test
     public void testGetValueMethod() {
         Assert.assertEquals(firstExpected, ((CosString) actual).getvalue());
@@ -51,7 +51,7 @@ public class PBCosTrailerTest extends BaseTest {
         trailer.setItem(COSName.ROOT, root);
         trailer.setItem(COSName.ENCRYPT, root);
 
-        actual = new PBCosTrailer(trailer, document, null);
+        actual = new PBCosTrailer(trailer, context, document, null);
     }
 
     @Test
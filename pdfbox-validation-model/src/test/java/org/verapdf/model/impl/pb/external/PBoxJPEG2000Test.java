@@ -0,0 +1,124 @@
+/**
+ * This file is part of veraPDF PDF Box PDF/A Validation Model Implementation, a module of the veraPDF project.
+ * Copyright (c) 2015, veraPDF Consortium <info@verapdf.org>
+ * All rights reserved.
+ *
+ * veraPDF PDF Box PDF/A Validation Model Implementation is free software: you can redistribute it and/or modify
+ * it under the terms of either:
+ *
+ * The GNU General public license GPLv3+.
+ * You should have received a copy of the GNU General Public License
+ * along with veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.GPL file in the root of the source
+ * tree.  If not, see http://www.gnu.org/licenses/ or
+ * https://www.gnu.org/licenses/gpl-3.0.en.html.
+ *
+ * The Mozilla Public License MPLv2+.
+ * You should have received a copy of the Mozilla Public License along with
+ * veraPDF PDF Box PDF/A Validation Model Implementation as the LICENSE.MPL file in the root of the source tree.
+ * If a copy of the MPL was not distributed with this file, you can obtain one at
+ * http://mozilla.org/MPL/2.0/.
+ */
+package org.verapdf.model.impl.pb.external;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.Assert;
+import org.junit.Test;
+import org.verapdf.model.impl.pb.containers.CountingCache;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
+import org.verapdf.model.impl.pb.containers.JPEG2000HeaderCache;
+import org.verapdf.model.tools.ContentDigest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class PBoxJPEG2000Test {
+
+	private static final int CODESTREAM_LENGTH = 1 << 20;
+
+	@Test
+	public void testHeaderBoxesAreParsed() throws IOException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(createImage());
+		PBoxJPEG2000 jpeg2000 = PBoxJPEG2000.fromStream(stream, new DocumentContext(), null, null);
+
+		Assert.assertEquals(Long.valueOf(4), jpeg2000.getnrColorChannels());
+		Assert.assertEquals(Long.valueOf(8), jpeg2000.getbitDepth());
+		Assert.assertEquals(Boolean.FALSE, jpeg2000.getbpccBoxPresent());
+		Assert.assertEquals(Long.valueOf(1), jpeg2000.getnrColorSpaceSpecs());
+		Assert.assertEquals(Long.valueOf(1), jpeg2000.getcolrMethod());
+		Assert.assertEquals(Long.valueOf(12), jpeg2000.getcolrEnumCS());
+		Assert.assertNotNull(jpeg2000.getImageColorSpace());
+		// code stream after the header box is not read
+		Assert.assertTrue(stream.available() >= CODESTREAM_LENGTH);
+	}
+
+	@Test
+	public void testHeaderIsAnalysedOnce() throws IOException {
+		CountingCache<ContentDigest, PBoxJPEG2000.Header> cache = JPEG2000HeaderCache.getCache();
+		PBoxJPEG2000.fromStream(new ByteArrayInputStream(createImage()), new DocumentContext(), null, null);
+		long hits = cache.getHits();
+
+		PBoxJPEG2000 jpeg2000 = PBoxJPEG2000.fromStream(new ByteArrayInputStream(createImage()), new DocumentContext(), null, null);
+		Assert.assertEquals(hits + 1, cache.getHits());
+		Assert.assertEquals(Long.valueOf(4), jpeg2000.getnrColorChannels());
+		Assert.assertNotNull(jpeg2000.getImageColorSpace());
+	}
+
+	@Test
+	public void testImageIsSharedInDocument() throws IOException {
+		try (PDDocument document = new PDDocument()) {
+			DocumentContext context = new DocumentContext();
+			PBoxJPEG2000 first = PBoxJPEG2000.fromStream(new ByteArrayInputStream(createImage()), context, document, null);
+			PBoxJPEG2000 second = PBoxJPEG2000.fromStream(new ByteArrayInputStream(createImage()), context, document, null);
+			Assert.assertSame(first, second);
+			Assert.assertEquals(1, context.getCachedJPEG2000().size());
+		}
+	}
+
+	@Test
+	public void testWrongSignature() {
+		PBoxJPEG2000 jpeg2000 = PBoxJPEG2000.fromStream(new ByteArrayInputStream(new byte[20]), new DocumentContext(), null, null);
+		Assert.assertEquals(Long.valueOf(0), jpeg2000.getnrColorChannels());
+		Assert.assertNull(jpeg2000.getImageColorSpace());
+	}
+
+	private static byte[] createImage() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		// signature box
+		out.writeInt(12);
+		out.writeBytes("jP  ");
+		out.writeInt(0x0D0A870A);
+		// file type box
+		out.writeInt(20);
+		out.writeBytes("ftyp");
+		out.writeBytes("jp2 ");
+		out.writeInt(0);
+		out.writeBytes("jp2 ");
+		// header box with image header and color specification
+		out.writeInt(8 + 22 + 15);
+		out.writeBytes("jp2h");
+		out.writeInt(22);
+		out.writeBytes("ihdr");
+		out.writeInt(100);
+		out.writeInt(200);
+		out.writeShort(4);
+		out.writeByte(7);
+		out.writeByte(7);
+		out.writeByte(0);
+		out.writeByte(0);
+		out.writeInt(15);
+		out.writeBytes("colr");
+		out.writeByte(1);
+		out.writeByte(0);
+		out.writeByte(0);
+		out.writeInt(12);
+		// contiguous code stream box
+		out.writeInt(8 + CODESTREAM_LENGTH);
+		out.writeBytes("jp2c");
+		out.write(new byte[CODESTREAM_LENGTH]);
+		out.flush();
+		return bytes.toByteArray();
+	}
+}
@@ -63,7 +63,7 @@ public abstract class PBOperatorTest extends BaseTest {
 		parser.parse();
 
 		List<Operator> operators = new OperatorFactory().operatorsFromTokens(parser.getTokens(),
-				PDInheritableResources.getInstance(resources), document, null);
+				PDInheritableResources.getInstance(resources), context, document, null);
 		actual = getActual(operators, expectedType);
 
 		operators.clear();
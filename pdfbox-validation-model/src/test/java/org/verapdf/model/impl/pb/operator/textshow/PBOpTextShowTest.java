@@ -20,7 +20,12 @@
  */
 package org.verapdf.model.impl.pb.operator.textshow;
 
+import java.util.List;
+
+import org.junit.Assert;
 import org.junit.Test;
+import org.verapdf.model.baselayer.Object;
+import org.verapdf.model.impl.pb.containers.CountingCache;
 import org.verapdf.model.impl.pb.operator.base.PBOperatorTest;
 import org.verapdf.model.impl.pb.pd.colors.PBoxPDDeviceGray;
 import org.verapdf.model.impl.pb.pd.font.PBoxPDTrueTypeFont;
@@ -40,6 +45,36 @@ public abstract class PBOpTextShowTest extends PBOperatorTest {
 		testObject(PBOpTextShow.USED_GLYPHS, getUsedGlyphsAmount(), PBGlyph.GLYPH_TYPE);
 	}
 
+	@Test
+	public void testFontContainerIsCached() {
+		CountingCache<?, ?> cache = context.getFontContainers();
+		actual.getLinkedObjects(PBOpTextShow.USED_GLYPHS);
+		int size = cache.size();
+		long hits = cache.getHits();
+
+		actual.getLinkedObjects(PBOpTextShow.USED_GLYPHS);
+		Assert.assertEquals(size, cache.size());
+		Assert.assertEquals(hits + 1, cache.getHits());
+	}
+
+	@Test
+	public void testUsedGlyphsAreShared() {
+		List<? extends Object> first = actual.getLinkedObjects(PBOpTextShow.USED_GLYPHS);
+		List<? extends Object> second = actual.getLinkedObjects(PBOpTextShow.USED_GLYPHS);
+		Assert.assertEquals(first.size(), second.size());
+		for (int i = 0; i < first.size(); ++i) {
+			Assert.assertSame(first.get(i), second.get(i));
+		}
+	}
+
+	@Test
+	public void testCharCodesAreUnique() {
+		byte[] codes = ((PBOpTextShow) actual).getCharCodes();
+		for (int i = 1; i < codes.length; ++i) {
+			Assert.assertTrue((codes[i - 1] & 0xFF) < (codes[i] & 0xFF));
+		}
+	}
+
 	@Test
 	public void testFillColorSpaceLink() {
 		testObject(PBOpTextShow.FILL_COLOR_SPACE,
@@ -46,7 +46,7 @@ public class PBOp_d1Test extends PBOperatorTest {
 			objects.add(COSInteger.get(random.nextInt()));
 		}
 		objects.add(Operator.getOperator("d1"));
-		actual = new OperatorFactory().operatorsFromTokens(objects, null, document, null).get(0);
+		actual = new OperatorFactory().operatorsFromTokens(objects, null, context, document, null).get(0);
 	}
 
 	@Test
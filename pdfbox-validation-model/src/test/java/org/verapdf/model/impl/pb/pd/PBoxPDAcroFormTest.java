@@ -44,7 +44,7 @@ public class PBoxPDAcroFormTest extends BaseTest {
 		expectedID = "2 0 obj PDAcroForm";
 
 		setUp(FILE_RELATIVE_PATH);
-		actual = new PBoxPDAcroForm(document.getDocumentCatalog().getAcroForm(), document, null);
+		actual = new PBoxPDAcroForm(document.getDocumentCatalog().getAcroForm(), context, document, null);
 	}
 
 	@Test
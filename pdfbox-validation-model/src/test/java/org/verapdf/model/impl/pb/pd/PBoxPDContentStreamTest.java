@@ -50,7 +50,7 @@ public class PBoxPDContentStreamTest extends BaseTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		PDPage page = document.getPage(0);
-		actual = new PBoxPDContentStream(page, PDInheritableResources.getInstance(page.getResources()), document, null);
+		actual = new PBoxPDContentStream(page, PDInheritableResources.getInstance(page.getResources()), context, document, null);
 	}
 
 	@Test
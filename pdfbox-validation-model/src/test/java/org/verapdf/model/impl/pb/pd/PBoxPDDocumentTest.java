@@ -45,7 +45,7 @@ public class PBoxPDDocumentTest extends BaseTest{
 		expectedID = null;
 
 		setUp(FILE_RELATIVE_PATH);
-		actual = new PBoxPDDocument(document, null);
+		actual = new PBoxPDDocument(context, document, null);
 	}
 
 	@Test
@@ -48,7 +48,7 @@ public class PBoxPDExtGStateTest extends BaseTest {
 		setUp(FILE_RELATIVE_PATH);
 		PDResources resources = document.getPage(0).getResources();
 		COSName next = resources.getExtGStateNames().iterator().next();
-		actual = new PBoxPDExtGState(resources.getExtGState(next), document, null);
+		actual = new PBoxPDExtGState(resources.getExtGState(next), context, document, null);
 	}
 
 	@Test
@@ -48,7 +48,7 @@ public class PBoxPDGroupTest extends BaseTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		COSBase groupDictionary = document.getPage(0).getCOSObject().getDictionaryObject(COSName.GROUP);
-		actual = new PBoxPDGroup(new PDGroup((COSDictionary) groupDictionary), document, null);
+		actual = new PBoxPDGroup(new PDGroup((COSDictionary) groupDictionary), context, document, null);
 	}
 
 	@Test
@@ -47,7 +47,7 @@ public class PBoxPDMetadataTest extends BaseTest {
 		expectedID = "5 0 obj PDMetadata";
 
 		setUp(FILE_RELATIVE_PATH);
-		actual = new PBoxPDMetadata(document.getDocumentCatalog().getMetadata(), Boolean.TRUE, document, PDFAFlavour.PDFA_1_B);
+		actual = new PBoxPDMetadata(document.getDocumentCatalog().getMetadata(), Boolean.TRUE, context, document, PDFAFlavour.PDFA_1_B);
 	}
 
 	@Test
@@ -45,7 +45,7 @@ public class PBoxPDPageTest extends BaseTest {
 		expectedID = "8 0 obj PDPage";
 
 		setUp(FILE_RELATIVE_PATH);
-		actual = new PBoxPDPage(document.getPage(0), document, null);
+		actual = new PBoxPDPage(document.getPage(0), context, document, null);
 	}
 
 	@Test
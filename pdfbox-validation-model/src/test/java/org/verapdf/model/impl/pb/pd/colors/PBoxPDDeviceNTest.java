@@ -46,7 +46,7 @@ public class PBoxPDDeviceNTest extends PBoxPDColorSpaceTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		PDColorSpace deviceN = document.getPage(0).getResources().getColorSpace(COSName.getPDFName(COLOR_SPACE_NAME));
-		actual = new PBoxPDDeviceN((PDDeviceN) deviceN, document, null);
+		actual = new PBoxPDDeviceN((PDDeviceN) deviceN, context, document, null);
 	}
 
 	@Test
@@ -46,7 +46,7 @@ public class PBoxPDIndexedTest extends PBoxPDColorSpaceTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		PDColorSpace indexed = document.getPage(0).getResources().getColorSpace(COSName.getPDFName(COLOR_SPACE_NAME));
-		actual = new PBoxPDIndexed((PDIndexed) indexed, document, null);
+		actual = new PBoxPDIndexed((PDIndexed) indexed, context, document, null);
 	}
 
 	@Test
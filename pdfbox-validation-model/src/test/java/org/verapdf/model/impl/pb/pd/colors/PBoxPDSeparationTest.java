@@ -46,7 +46,7 @@ public class PBoxPDSeparationTest extends PBoxPDColorSpaceTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		PDColorSpace separation = document.getPage(0).getResources().getColorSpace(COSName.getPDFName(COLOR_SPACE_NAME));
-		actual = new PBoxPDSeparation((PDSeparation) separation, document, null);
+		actual = new PBoxPDSeparation((PDSeparation) separation, context, document, null);
 	}
 
 	@Test
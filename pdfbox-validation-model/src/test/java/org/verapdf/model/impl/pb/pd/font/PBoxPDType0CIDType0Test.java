@@ -47,7 +47,7 @@ public class PBoxPDType0CIDType0Test extends PBoxPDType0FontTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		PDFont type0Font = document.getPage(0).getResources().getFont(COSName.getPDFName(TYPE0_FONT_NAME));
-		actual = new PBoxPDType0Font(type0Font, defaultRenderingMode, document, null);
+		actual = new PBoxPDType0Font(type0Font, defaultRenderingMode, context, document, null);
 
 		expectedID = type0Font.getCOSObject().hashCode() + " IIWNIN+AdobeFanHeitiStd-Bold";
 	}
@@ -24,13 +24,17 @@ import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.coslayer.CosName;
+import org.verapdf.model.impl.pb.containers.DocumentContext;
 import org.verapdf.model.pdlayer.PDCIDFont;
 import org.verapdf.model.pdlayer.PDType0Font;
+import org.verapdf.model.tools.FontHelper;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -47,7 +51,7 @@ public class PBoxPDType0CIDType2Test extends PBoxPDType0FontTest {
 
 		setUp(FILE_RELATIVE_PATH);
 		PDFont type0Font = document.getPage(0).getResources().getFont(COSName.getPDFName(TYPE0_FONT_NAME));
-		actual = new PBoxPDType0Font(type0Font, defaultRenderingMode, document, null);
+		actual = new PBoxPDType0Font(type0Font, defaultRenderingMode, context, document, null);
 
 		expectedID = type0Font.getCOSObject().hashCode() + " CBTOEA+ArialMT-Identity-H";
 	}
@@ -84,4 +88,18 @@ public class PBoxPDType0CIDType2Test extends PBoxPDType0FontTest {
 		Assert.assertTrue(((PDType0Font) actual).getareRegistryOrderingCompatible().booleanValue());
 	}
 
+	@Test
+	public void testCIDGlyphsAreCachedPerDocument() throws IOException {
+		org.apache.pdfbox.pdmodel.font.PDType0Font type0Font = (org.apache.pdfbox.pdmodel.font.PDType0Font)
+				document.getPage(0).getResources().getFont(COSName.getPDFName(TYPE0_FONT_NAME));
+		DocumentContext context = new DocumentContext();
+		BitSet glyphs = FontHelper.getCIDGlyphs(type0Font.getDescendantFont(), context);
+		Assert.assertNotNull(glyphs);
+		Assert.assertFalse(glyphs.isEmpty());
+		Assert.assertFalse(glyphs.get(0));
+		Assert.assertTrue(glyphs.length() <= FontHelper.MAX_CID + 1);
+		Assert.assertSame(glyphs, FontHelper.getCIDGlyphs(type0Font.getDescendantFont(), context));
+		Assert.assertEquals(1, context.getCIDGlyphs().getHits());
+	}
+
 }
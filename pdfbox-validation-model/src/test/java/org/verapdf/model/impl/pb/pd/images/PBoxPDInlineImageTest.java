@@ -47,7 +47,7 @@ public class PBoxPDInlineImageTest extends PBoxPDXImageTest {
 
 		final COSDictionary parameters = getParameters();
 		PDInlineImage image = new PDInlineImage(parameters, new byte[0], new PDResources(new COSDictionary()));
-		actual = new PBoxPDInlineImage(image, document, null);
+		actual = new PBoxPDInlineImage(image, context, document, null);
 	}
 
 	private static COSDictionary getParameters() {
@@ -29,6 +29,7 @@ import org.junit.Test;
 import org.verapdf.model.baselayer.Object;
 import org.verapdf.model.impl.pb.pd.PBoxPDContentStream;
 import org.verapdf.model.pdlayer.PDXForm;
+import org.verapdf.model.pdlayer.PDXObject;
 import org.verapdf.model.tools.resources.PDInheritableResources;
 
 import java.io.IOException;
@@ -51,7 +52,7 @@ public class PBoxPDXFormTest extends PBoxPDAbstractXObjectTest {
 		setUp(FILE_RELATIVE_PATH);
 		PDResources pageResources = document.getPage(0).getResources();
 		PDFormXObject xObject = (PDFormXObject) pageResources.getXObject(COSName.getPDFName(FORM_NAME));
-		actual = new PBoxPDXForm(xObject, PDInheritableResources.getInstance(pageResources, xObject.getResources()), document, null);
+		actual = new PBoxPDXForm(xObject, PDInheritableResources.getInstance(pageResources, xObject.getResources()), context, document, null);
 	}
 
 	@Override
@@ -80,4 +81,18 @@ public class PBoxPDXFormTest extends PBoxPDAbstractXObjectTest {
 		}
 	}
 
+	@Test
+	public void testFormIsCachedPerResources() throws IOException {
+		context.getCachedXForms().clear();
+		PDResources pageResources = document.getPage(0).getResources();
+		PDInheritableResources resources = PDInheritableResources.getInstance(pageResources);
+		PDXObject first = PBoxPDXObject.getTypedPDXObject(
+				pageResources.getXObject(COSName.getPDFName(FORM_NAME)), resources, context, document, null);
+		PDXObject second = PBoxPDXObject.getTypedPDXObject(
+				pageResources.getXObject(COSName.getPDFName(FORM_NAME)), resources, context, document, null);
+		Assert.assertSame(first, second);
+		Assert.assertEquals(1, context.getCachedXForms().getHits());
+		Assert.assertEquals(1, context.getCachedXForms().getMisses());
+	}
+
 }
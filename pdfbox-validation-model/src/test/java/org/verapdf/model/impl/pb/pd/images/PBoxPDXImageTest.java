@@ -52,7 +52,7 @@ public class PBoxPDXImageTest extends PBoxPDAbstractXObjectTest {
 		PDXObject xObject = document.getPage(0).getResources().getXObject(COSName.getPDFName(IMAGE_NAME));
 		PDInheritableResources inheritableResources =
 				PDInheritableResources.getInstance(document.getPage(0).getResources());
-		actual = new PBoxPDXImage((PDImageXObjectProxy) xObject, inheritableResources, document, null);
+		actual = new PBoxPDXImage((PDImageXObjectProxy) xObject, inheritableResources, context, document, null);
 	}
 
 	@Override